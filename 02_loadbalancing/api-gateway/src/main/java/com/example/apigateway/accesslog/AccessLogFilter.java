@@ -0,0 +1,98 @@
+package com.example.apigateway.accesslog;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * 라우팅된 모든 요청을 한 줄씩 구조화된 접근 로그로 남기는 필터
+ *
+ * DEBUG 로깅 대신 요청당 한 줄(JSON)만 남기며, 실제 파일 기록은 AccessLogWriter의 별도 스레드가 맡습니다.
+ * 기록 항목: 라우트, 로드밸런서가 선택한 인스턴스, 상태 코드, 응답 바이트, 전체 처리 시간
+ *
+ * 가장 바깥에서 실행되어야 전체 시간과 응답 본문 크기를 잴 수 있으므로 가장 높은 우선순위로 둡니다.
+ */
+@Component
+public class AccessLogFilter implements GlobalFilter, Ordered {
+
+    private final AccessLogWriter writer;
+
+    public AccessLogFilter(AccessLogWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!writer.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        long startMillis = System.currentTimeMillis();
+        long start = System.nanoTime();
+        ByteCountingResponse response = new ByteCountingResponse(exchange.getResponse());
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> writer.append(record(exchange, response, startMillis, System.nanoTime() - start)));
+    }
+
+    private static AccessLogRecord record(ServerWebExchange exchange, ByteCountingResponse response,
+                                          long startMillis, long totalNanos) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        // 로드밸런서가 인스턴스를 고른 요청만 기록 (인증/한도 초과로 게이트웨이에서 끝난 요청은 null)
+        Response<ServiceInstance> instance = exchange.getAttribute(GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        HttpStatusCode status = response.getStatusCode();
+        return new AccessLogRecord(
+                startMillis,
+                request.getMethod().name(),
+                request.getURI().getRawPath(),
+                route != null ? route.getId() : null,
+                instance != null && instance.hasServer()
+                        ? instance.getServer().getHost() + ":" + instance.getServer().getPort() : null,
+                status != null ? status.value() : 0,
+                response.bytes,
+                totalNanos);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * 클라이언트로 보낸 응답 본문 바이트 수를 세는 데코레이터
+     */
+    private static final class ByteCountingResponse extends ServerHttpResponseDecorator {
+
+        private long bytes;
+
+        private ByteCountingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body).doOnNext(buffer -> bytes += buffer.readableByteCount()));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.from(body)
+                    .map(chunk -> Flux.from(chunk).doOnNext(buffer -> bytes += buffer.readableByteCount())));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.apigateway.accesslog;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 접근 로그 비동기 기록기
+ *
+ * 요청을 처리하는 이벤트 루프는 링 버퍼에 레코드를 넣기만 하고 바로 돌아가며,
+ * 별도 스레드 하나가 버퍼를 비우면서 JSON 문자열로 변환해 파일에 씁니다.
+ * - 일괄 기록: 모인 레코드를 batch-size 크기의 버퍼에 채운 뒤 write 한 번으로 기록
+ * - 버퍼가 가득 차면 기다리지 않고 레코드를 버린 뒤 개수만 셈 (요청 처리 지연 없음)
+ * - 버린 레코드가 있으면 flush-interval마다 한 번 경고 로그
+ */
+@Component
+public class AccessLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessLogWriter.class);
+
+    private final boolean enabled;
+    private final Path path;
+    private final MpscRingBuffer<AccessLogRecord> queue;
+    private final ByteBuffer batch;
+    private final long flushIntervalNanos;
+    private final LongAdder droppedRecords = new LongAdder();
+    private final LongAdder writtenRecords = new LongAdder();
+
+    private final StringBuilder line = new StringBuilder(256);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private FileChannel channel;
+    private Thread writerThread;
+    private volatile boolean running;
+    private long reportedDrops;
+
+    public AccessLogWriter(@Value("${gateway.access-log.enabled:true}") boolean enabled,
+                           @Value("${gateway.access-log.path:logs/access.log}") String path,
+                           @Value("${gateway.access-log.buffer-size:16384}") int bufferSize,
+                           @Value("${gateway.access-log.batch-size:64KB}") DataSize batchSize,
+                           @Value("${gateway.access-log.flush-interval:PT1S}") Duration flushInterval) {
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.queue = new MpscRingBuffer<>(bufferSize);
+        this.batch = ByteBuffer.allocateDirect((int) batchSize.toBytes());
+        this.flushIntervalNanos = flushInterval.toNanos();
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        running = true;
+        writerThread = new Thread(this::run, "access-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws IOException {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    /**
+     * 이벤트 루프에서 호출: 블로킹 없이 버퍼에 넣고, 가득 차면 버림
+     */
+    void append(AccessLogRecord record) {
+        if (!running) {
+            return;
+        }
+        if (!queue.offer(record)) {
+            droppedRecords.increment();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 버퍼가 가득 차 기록하지 못한 레코드 수 */
+    public long droppedRecords() {
+        return droppedRecords.sum();
+    }
+
+    public long writtenRecords() {
+        return writtenRecords.sum();
+    }
+
+    private void run() {
+        long lastFlush = System.nanoTime();
+        while (running) {
+            boolean drained = drain();
+            long now = System.nanoTime();
+            if (batch.position() > 0 && (drained || now - lastFlush >= flushIntervalNanos)) {
+                flush();
+                lastFlush = now;
+                reportDrops();
+            }
+            if (!drained) {
+                continue;
+            }
+            // 버퍼가 비었으면 잠시 쉼 (요청이 몰릴 때는 쉬지 않고 계속 비움)
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        drain();
+        flush();
+    }
+
+    /**
+     * @return 버퍼를 모두 비웠으면 true, 최대 한 배치 분량만 처리하고 남았으면 false
+     */
+    private boolean drain() {
+        for (int i = 0; i < queue.capacity(); i++) {
+            AccessLogRecord record = queue.poll();
+            if (record == null) {
+                return true;
+            }
+            encode(record);
+            writtenRecords.increment();
+        }
+        return false;
+    }
+
+    private void encode(AccessLogRecord record) {
+        line.setLength(0);
+        record.appendJson(line);
+        line.append('\n');
+        CharBuffer chars = CharBuffer.wrap(line);
+        encoder.reset();
+        while (encoder.encode(chars, batch, true) == CoderResult.OVERFLOW) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        batch.flip();
+        try {
+            while (batch.hasRemaining()) {
+                channel.write(batch);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write access log to {}: {}", path, e.toString());
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void reportDrops() {
+        long dropped = droppedRecords.sum();
+        if (dropped > reportedDrops) {
+            log.warn("Access log buffer full, dropped {} records so far", dropped);
+            reportedDrops = dropped;
+        }
+    }
+}
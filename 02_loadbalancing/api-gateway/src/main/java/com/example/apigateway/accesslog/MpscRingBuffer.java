@@ -0,0 +1,59 @@
+package com.example.apigateway.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 스레드가 넣고 한 스레드만 꺼내는 고정 크기 링 버퍼 (잠금 없음)
+ *
+ * 넣는 쪽(Netty 이벤트 루프)은 자리 번호를 compareAndSet으로 예약한 뒤 값을 기록하고,
+ * 꺼내는 쪽(로그 기록 스레드)은 값이 채워진 칸만 순서대로 가져갑니다.
+ * 버퍼가 가득 차면 offer는 기다리지 않고 즉시 false를 반환합니다.
+ */
+final class MpscRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return 버퍼가 가득 차 넣지 못했으면 false
+     */
+    boolean offer(T value) {
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex.get() >= slots.length()) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+        slots.lazySet((int) index & mask, value);
+        return true;
+    }
+
+    /**
+     * 꺼내는 스레드 전용, 비어 있거나 다음 칸이 아직 기록 중이면 null
+     */
+    T poll() {
+        long index = consumerIndex.get();
+        int offset = (int) index & mask;
+        T value = slots.get(offset);
+        if (value == null) {
+            return null;
+        }
+        slots.lazySet(offset, null);
+        consumerIndex.lazySet(index + 1);
+        return value;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
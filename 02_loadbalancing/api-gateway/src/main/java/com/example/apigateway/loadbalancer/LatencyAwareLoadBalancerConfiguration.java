@@ -0,0 +1,39 @@
+package com.example.apigateway.loadbalancer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 서비스별 로드밸런서 설정 (@LoadBalancerClients의 defaultConfiguration으로 지정)
+ *
+ * Spring Cloud LoadBalancer는 호출 대상 서비스(member-service, board-service 등)마다 별도의 작은 컨텍스트를 만들고
+ * 이 클래스의 Bean을 그 안에 등록합니다. 그래서 인스턴스 응답 시간 기록도 서비스별로 따로 관리됩니다.
+ * 메인 컨텍스트에 등록되면 안 되므로 @Configuration을 붙이지 않습니다.
+ *
+ * loadbalancer.latency-aware.enabled=false이면 이 Bean이 없으므로 기본 Round Robin이 사용됩니다. (비교 측정용)
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+    // 로드밸런서이면서 LoadBalancerLifecycle이므로 구체 타입으로 등록 (응답 시간 콜백 대상으로도 조회됨)
+    @Bean
+    @ConditionalOnProperty(name = "loadbalancer.latency-aware.enabled", matchIfMissing = true)
+    public LatencyAwareLoadBalancer latencyAwareLoadBalancer(
+            Environment environment,
+            LoadBalancerClientFactory loadBalancerClientFactory) {
+        // 서비스별 컨텍스트에는 문자열 → Duration 변환기가 없으므로 직접 변환 (PT10S, 10s 형식 모두 가능)
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        Duration decayTime = DurationStyle.detectAndParse(
+                environment.getProperty("loadbalancer.latency-aware.decay-time", "PT10S"));
+        Duration failurePenalty = DurationStyle.detectAndParse(
+                environment.getProperty("loadbalancer.latency-aware.failure-penalty", "PT1S"));
+        return new LatencyAwareLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId, decayTime, failurePenalty);
+    }
+}
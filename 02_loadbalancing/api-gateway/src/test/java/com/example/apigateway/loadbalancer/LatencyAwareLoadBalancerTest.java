@@ -0,0 +1,171 @@
+package com.example.apigateway.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * board-service 3대 중 1대가 느린 상황을 가상 시계로 시뮬레이션해 Round Robin과 p99 응답 시간을 비교
+ * (동시 사용자 12명이 응답을 받는 즉시 다음 요청을 보내는 폐쇄형 부하)
+ */
+class LatencyAwareLoadBalancerTest {
+
+    private static final int CLIENTS = 12;
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private final ServiceInstance fast1 = instance(8082);
+    private final ServiceInstance fast2 = instance(8084);
+    private final ServiceInstance slow = instance(8086);
+    private final List<ServiceInstance> instances = List.of(fast1, fast2, slow);
+
+    private final AtomicLong now = new AtomicLong(1);
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private LatencyAwareLoadBalancer balancer() {
+        return new LatencyAwareLoadBalancer(null, "board-service", Duration.ofSeconds(10), Duration.ofSeconds(1),
+                now::get, () -> random);
+    }
+
+    @Test
+    void slowInstanceNoLongerDominatesTailLatency() {
+        ToLongFunction<ServiceInstance> latency = instance -> instance == slow ? SLOW : jitter(FAST);
+
+        AtomicLong next = new AtomicLong();
+        Result roundRobin = simulate(list -> new DefaultResponse(list.get((int) (next.getAndIncrement() % list.size()))),
+                null, latency, Duration.ofSeconds(20));
+
+        now.set(1);
+        LatencyAwareLoadBalancer balancer = balancer();
+        Result latencyAware = simulate(balancer::choose, balancer, latency, Duration.ofSeconds(20));
+
+        // Round Robin: 요청 1/3이 느린 인스턴스로 가므로 p99 = 느린 인스턴스 응답 시간
+        assertEquals(SLOW, roundRobin.percentile(0.99));
+        assertTrue(roundRobin.share(slow) > 0.3);
+
+        // 느린 인스턴스는 가끔 재시도될 때만 선택되어 p99에 나타나지 않음
+        assertTrue(latencyAware.share(slow) < 0.005, "slow share " + latencyAware.share(slow));
+        assertTrue(latencyAware.percentile(0.99) < TimeUnit.MILLISECONDS.toNanos(10));
+        assertTrue(latencyAware.requests() > roundRobin.requests() * 3);
+    }
+
+    @Test
+    void recoveredInstanceGetsTrafficAgain() {
+        LatencyAwareLoadBalancer balancer = balancer();
+        simulate(balancer::choose, balancer, instance -> instance == slow ? SLOW : jitter(FAST), Duration.ofSeconds(10));
+
+        // 느렸던 인스턴스가 회복: 기록이 감쇠하면서 다시 선택되고, 빠른 응답이 쌓이면 정상 분산으로 복귀
+        Result recovered = simulate(balancer::choose, balancer, instance -> jitter(FAST), Duration.ofSeconds(60));
+
+        assertTrue(recovered.share(slow) > 0.15, "recovered share " + recovered.share(slow));
+    }
+
+    @Test
+    void failuresCountAsSlowResponses() {
+        LatencyAwareLoadBalancer balancer = balancer();
+        Response<ServiceInstance> chosen = new DefaultResponse(fast1);
+        Request<Object> request = new DefaultRequest<>(new RequestDataContext());
+        balancer.onStartRequest(request, chosen);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        balancer.onComplete(new CompletionContext<>(CompletionContext.Status.FAILED, new IllegalStateException(),
+                request, chosen));
+
+        // 1ms 만에 실패한 인스턴스보다 응답 기록이 없는 인스턴스가 선택됨
+        for (int i = 0; i < 20; i++) {
+            assertNotSame(fast1, balancer.choose(List.of(fast1, fast2)).getServer());
+        }
+    }
+
+    private Result simulate(Function<List<ServiceInstance>, Response<ServiceInstance>> chooser,
+                            LatencyAwareLoadBalancer lifecycle, ToLongFunction<ServiceInstance> latency, Duration duration) {
+        long end = now.get() + duration.toNanos();
+        PriorityQueue<InFlight> queue = new PriorityQueue<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            queue.add(start(chooser, lifecycle, latency));
+        }
+        long[] latencies = new long[1 << 16];
+        int count = 0;
+        Map<ServiceInstance, Integer> perInstance = new HashMap<>();
+        while (!queue.isEmpty()) {
+            InFlight done = queue.poll();
+            now.set(done.completesAt);
+            if (lifecycle != null) {
+                lifecycle.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, done.request, done.response));
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = done.completesAt - done.startedAt;
+            perInstance.merge(done.response.getServer(), 1, Integer::sum);
+            if (now.get() < end) {
+                queue.add(start(chooser, lifecycle, latency));
+            }
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Result(sorted, perInstance);
+    }
+
+    private InFlight start(Function<List<ServiceInstance>, Response<ServiceInstance>> chooser,
+                           LatencyAwareLoadBalancer lifecycle, ToLongFunction<ServiceInstance> latency) {
+        Response<ServiceInstance> response = chooser.apply(instances);
+        Request<Object> request = new DefaultRequest<>(new RequestDataContext());
+        if (lifecycle != null) {
+            lifecycle.onStartRequest(request, response);
+        }
+        long startedAt = now.get();
+        return new InFlight(startedAt, startedAt + latency.applyAsLong(response.getServer()), request, response);
+    }
+
+    private long jitter(long nanos) {
+        return nanos + random.nextLong(nanos / 5);
+    }
+
+    private static ServiceInstance instance(int port) {
+        return new DefaultServiceInstance("board-service-" + port, "board-service", "localhost", port, false);
+    }
+
+    private record InFlight(long startedAt, long completesAt, Request<Object> request, Response<ServiceInstance> response)
+            implements Comparable<InFlight> {
+
+        @Override
+        public int compareTo(InFlight other) {
+            return Long.compare(completesAt, other.completesAt);
+        }
+    }
+
+    private record Result(long[] sortedLatencies, Map<ServiceInstance, Integer> perInstance) {
+
+        int requests() {
+            return sortedLatencies.length;
+        }
+
+        long percentile(double p) {
+            return sortedLatencies[(int) Math.min(sortedLatencies.length - 1, sortedLatencies.length * p)];
+        }
+
+        double share(ServiceInstance instance) {
+            return perInstance.getOrDefault(instance, 0) / (double) sortedLatencies.length;
+        }
+    }
+}
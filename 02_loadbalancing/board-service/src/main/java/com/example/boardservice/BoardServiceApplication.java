@@ -1,8 +1,10 @@
 package com.example.boardservice;
 
+import com.example.boardservice.loadbalancer.LatencyAwareLoadBalancerConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 
 /**
@@ -20,6 +22,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 @SpringBootApplication
 @EnableDiscoveryClient  // Eureka에 서비스 등록 및 다른 서비스 발견
 @EnableFeignClients     // Feign Client 활성화 - 다른 서비스를 쉽게 호출할 수 있게 해주는 라이브러리
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)  // Feign 호출에 응답 시간 기반 선택 적용
 public class BoardServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,208 @@
+package com.example.boardservice.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * MSA 심화: 응답 시간을 반영하는 로드밸런서 (EWMA + Power of Two Choices)
+ *
+ * 기본 Round Robin은 인스턴스 하나가 느려져도 요청을 똑같이 나눠 주므로,
+ * 느린 인스턴스로 간 요청이 그대로 전체 p99 응답 시간이 됩니다.
+ * 이 로드밸런서는 인스턴스마다 두 값을 기록해 두고 더 빠를 것으로 예상되는 쪽을 고릅니다.
+ * - 응답 시간 EWMA(지수 가중 이동 평균): 느려지면 즉시 반영(peak), 빨라지면 decay-time에 걸쳐 서서히 반영
+ * - 처리 중인 요청 수(in-flight): 이미 밀려 있는 인스턴스는 피함
+ *
+ * 선택 방법: 인스턴스 두 개를 무작위로 뽑아 비용(EWMA × (처리 중 요청 수 + 1))이 낮은 쪽 선택
+ * - 모든 인스턴스를 비교하지 않으므로 인스턴스가 많아도 선택 비용이 일정
+ * - 가장 빠른 한 곳으로만 몰리지 않고 자연스럽게 분산
+ * - 오래 선택되지 않은 인스턴스는 EWMA가 점점 줄어들어 다시 시도됨 (느렸다가 회복된 인스턴스 복귀)
+ * - 오류 응답은 failure-penalty만큼 느린 응답으로 기록 (빠르게 실패하는 인스턴스로 몰리지 않도록)
+ *
+ * 응답 시간은 LoadBalancerLifecycle 콜백으로 측정하므로 Gateway와 Feign Client 모두 같은 방식으로 동작합니다.
+ * (api-gateway의 같은 이름 클래스와 동일한 구현, 여기서는 MemberServiceClient 호출에 사용)
+ */
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    // 아직 응답이 없는 새 인스턴스에 요청이 처리 중이면 첫 응답이 올 때까지 다른 인스턴스 우선
+    private static final double UNKNOWN_BUSY_COST = Double.MAX_VALUE / 2;
+
+    private final ObjectProvider<ServiceInstanceListSupplier> suppliers;
+    private final String serviceId;
+    private final double decayNanos;
+    private final long failurePenaltyNanos;
+    private final LongSupplier nanoClock;
+    private final Supplier<RandomGenerator> random;
+    private final ConcurrentMap<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> suppliers, String serviceId,
+                                    Duration decayTime, Duration failurePenalty) {
+        this(suppliers, serviceId, decayTime, failurePenalty, System::nanoTime, ThreadLocalRandom::current);
+    }
+
+    LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> suppliers, String serviceId,
+                             Duration decayTime, Duration failurePenalty, LongSupplier nanoClock, Supplier<RandomGenerator> random) {
+        this.suppliers = suppliers;
+        this.serviceId = serviceId;
+        this.decayNanos = decayTime.toNanos();
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+        this.nanoClock = nanoClock;
+        this.random = random;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = suppliers.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        if (stats.size() > instances.size()) {
+            removeStaleStats(instances);
+        }
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+        RandomGenerator rnd = random.get();
+        int first = rnd.nextInt(instances.size());
+        int second = rnd.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        long now = nanoClock.getAsLong();
+        return new DefaultResponse(statsOf(a).cost(now) <= statsOf(b).cost(now) ? a : b);
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+        if (request.getContext() instanceof TimedRequestContext context) {
+            context.setRequestStartTime(nanoClock.getAsLong());
+        }
+        statsOf(lbResponse.getServer()).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer() || completionContext.status() == CompletionContext.Status.DISCARD) {
+            return;
+        }
+        InstanceStats instance = statsOf(lbResponse.getServer());
+        instance.inFlight.decrementAndGet();
+
+        if (!(completionContext.getLoadBalancerRequest().getContext() instanceof TimedRequestContext context)
+                || context.getRequestStartTime() == 0) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        long latency = now - context.getRequestStartTime();
+        if (isFailure(completionContext)) {
+            latency = Math.max(latency, failurePenaltyNanos);
+        }
+        instance.observe(latency, now);
+    }
+
+    private static boolean isFailure(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        if (completionContext.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        return completionContext.getClientResponse() instanceof ResponseData response
+                && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError();
+    }
+
+    private InstanceStats statsOf(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), k -> new InstanceStats());
+    }
+
+    private void removeStaleStats(List<ServiceInstance> instances) {
+        Set<String> current = new HashSet<>();
+        for (ServiceInstance instance : instances) {
+            current.add(key(instance));
+        }
+        stats.keySet().retainAll(current);
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    public String getServiceId() {
+        return serviceId;
+    }
+
+    /**
+     * 인스턴스 하나의 응답 시간 EWMA와 처리 중 요청 수
+     *
+     * 평균보다 느린 응답은 바로 평균으로 삼고(peak), 빠른 응답은 시간 기준으로 섞습니다.
+     * 마지막 기록 후 decay-time이 지나면 이전 값의 비중이 약 37%(e^-1)로 줄어듭니다.
+     */
+    private final class InstanceStats {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile double ewma;
+        private volatile long lastUpdate;
+
+        synchronized void observe(long latencyNanos, long now) {
+            if (ewma == 0 || latencyNanos > ewma) {
+                ewma = latencyNanos;
+            } else {
+                double weight = Math.exp(-Math.max(0, now - lastUpdate) / decayNanos);
+                ewma = ewma * weight + latencyNanos * (1 - weight);
+            }
+            lastUpdate = now;
+        }
+
+        double cost(long now) {
+            // 인스턴스 목록 변경으로 기록이 새로 만들어진 경우 음수가 될 수 있음
+            int pending = Math.max(0, inFlight.get());
+            double latency = ewma;
+            if (latency == 0) {
+                return pending == 0 ? 0 : UNKNOWN_BUSY_COST;
+            }
+            // 선택되지 않은 동안에는 기록이 0으로 감쇠한 것으로 보고 다시 시도될 기회를 줌
+            double idleWeight = Math.exp(-Math.max(0, now - lastUpdate) / decayNanos);
+            return latency * idleWeight * (pending + 1);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.boardservice.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "eureka.client.enabled=false")
+class LatencyAwareLoadBalancerConfigurationTest {
+
+    @Autowired
+    private LoadBalancerClientFactory loadBalancerClientFactory;
+
+    @Test
+    void feignClientTargetUsesLatencyAwareLoadBalancer() {
+        // MemberServiceClient(Feign)가 사용하는 member-service 로드밸런서와 응답 시간 콜백이 같은 객체
+        var balancer = loadBalancerClientFactory.getInstance("member-service");
+        assertInstanceOf(LatencyAwareLoadBalancer.class, balancer);
+        assertTrue(loadBalancerClientFactory.getInstances("member-service", LoadBalancerLifecycle.class)
+                .containsValue(balancer));
+    }
+}
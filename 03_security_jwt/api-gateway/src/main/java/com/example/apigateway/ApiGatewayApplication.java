@@ -1,8 +1,10 @@
 package com.example.apigateway;
 
+import com.example.apigateway.hedge.HedgeLoadBalancerConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 
 /**
  * MSA 핵심 개념 2: API Gateway (단일 진입점)
@@ -23,6 +25,7 @@ import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
  */
 @SpringBootApplication
 @EnableDiscoveryClient  // Eureka 서버에서 다른 서비스들을 발견할 수 있게 하는 어노테이션
+@LoadBalancerClients(defaultConfiguration = HedgeLoadBalancerConfiguration.class)  // 헤지 요청은 첫 요청과 다른 인스턴스로
 public class ApiGatewayApplication {
 
     public static void main(String[] args) {
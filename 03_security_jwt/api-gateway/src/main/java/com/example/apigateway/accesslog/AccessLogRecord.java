@@ -0,0 +1,62 @@
+package com.example.apigateway.accesslog;
+
+import java.time.Instant;
+
+/**
+ * 요청 한 건의 접근 로그 (문자열 변환은 로그 기록 스레드에서 수행)
+ *
+ * 시간 값은 나노초, 측정되지 않은 단계(예: 캐시 응답의 업스트림 시간)는 -1
+ */
+record AccessLogRecord(long timestampMillis, String method, String path, String routeId, String instance,
+                       int status, long bytes, String auth, long totalNanos, long authNanos,
+                       long loadBalancerNanos, long upstreamNanos) {
+
+    /**
+     * JSON 한 줄로 기록: {"ts":"...","method":"GET","path":"/boards/1","route":"board-service",...}
+     */
+    void appendJson(StringBuilder line) {
+        line.append("{\"ts\":\"").append(Instant.ofEpochMilli(timestampMillis)).append('"');
+        appendString(line, "method", method);
+        appendString(line, "path", path);
+        appendString(line, "route", routeId);
+        appendString(line, "instance", instance);
+        line.append(",\"status\":").append(status);
+        line.append(",\"bytes\":").append(bytes);
+        appendString(line, "auth", auth);
+        appendMicros(line, "total_us", totalNanos);
+        appendMicros(line, "auth_us", authNanos);
+        appendMicros(line, "lb_us", loadBalancerNanos);
+        appendMicros(line, "upstream_us", upstreamNanos);
+        line.append('}');
+    }
+
+    private static void appendString(StringBuilder line, String name, String value) {
+        line.append(",\"").append(name).append("\":");
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+
+    private static void appendMicros(StringBuilder line, String name, long nanos) {
+        if (nanos >= 0) {
+            line.append(",\"").append(name).append("\":").append(nanos / 1000);
+        }
+    }
+}
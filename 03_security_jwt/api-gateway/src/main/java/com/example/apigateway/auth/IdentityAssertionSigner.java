@@ -0,0 +1,75 @@
+package com.example.apigateway.auth;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.LongSupplier;
+
+/**
+ * 게이트웨이가 인증한 사용자 정보를 서비스에 전달하는 내부 신원 확인 헤더(X-USER-ASSERTION) 생성
+ *
+ * X-USER-ID/X-USER-ROLE 헤더만 전달하면 게이트웨이를 거치지 않고 서비스에 직접 요청하는 쪽이 값을 마음대로 넣을 수 있습니다.
+ * JWT를 그대로 넘기면 서비스마다 다시 파싱/서명 검증을 해야 하므로, 게이트웨이가 검증을 마친 결과만 짧게 서명해 전달합니다.
+ *
+ * 형식: v1.{base64url(회원 ID)}.{base64url(역할)}.{만료 epoch 초}.{base64url(HMAC-SHA256)}
+ * - 서명 대상은 마지막 '.' 앞까지의 문자열, 키는 identity-assertion.secret (게이트웨이와 서비스만 공유, JWT 비밀키와 별도)
+ * - 유효 시간은 identity-assertion.ttl (요청 한 번이 서비스 사이를 오가는 동안만 쓰이므로 짧게)
+ * - 서비스는 HMAC 한 번과 만료 시각 비교만으로 검증 (IdentityAssertionFilter)
+ */
+@Component
+public class IdentityAssertionSigner {
+
+    public static final String HEADER = "X-USER-ASSERTION";
+    private static final String VERSION = "v1";
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+    private final LongSupplier millisClock;
+    // Mac은 스레드 안전하지 않으므로 이벤트 루프 스레드마다 하나씩 사용
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public IdentityAssertionSigner(@Value("${identity-assertion.secret}") String secret,
+                                   @Value("${identity-assertion.ttl:PT30S}") Duration ttl) {
+        this(secret, ttl, System::currentTimeMillis);
+    }
+
+    IdentityAssertionSigner(String secret, Duration ttl, LongSupplier millisClock) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < 32) {
+            throw new IllegalArgumentException("identity-assertion.secret must be at least 32 bytes");
+        }
+        this.key = new SecretKeySpec(secretBytes, "HmacSHA256");
+        this.ttlSeconds = ttl.toSeconds();
+        this.millisClock = millisClock;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String sign(String memberId, String role) {
+        long expiresAt = millisClock.getAsLong() / 1000 + ttlSeconds;
+        String payload = VERSION
+                + '.' + BASE64URL.encodeToString(memberId.getBytes(StandardCharsets.UTF_8))
+                + '.' + BASE64URL.encodeToString((role != null ? role : "").getBytes(StandardCharsets.UTF_8))
+                + '.' + expiresAt;
+        byte[] mac = macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        return payload + '.' + BASE64URL.encodeToString(mac);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
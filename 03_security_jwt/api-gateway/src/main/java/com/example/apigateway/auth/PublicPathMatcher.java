@@ -0,0 +1,139 @@
+package com.example.apigateway.auth;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인증 없이 통과시킬 경로 목록을 라우트 생성 시 한 번 컴파일한 매처
+ *
+ * - 와일드카드가 없는 경로: HashSet 한 번 조회
+ * - 와일드카드 경로: 세그먼트 단위 트라이 ("*" = 세그먼트 하나, 마지막 "**" = 하위 전체)
+ *
+ * 포함(contains) 검사가 아니라 경로 전체가 일치해야 하므로
+ * "/boards/health-report" 처럼 우연히 문자열이 겹치는 경로는 공개되지 않습니다.
+ *
+ * "." / ".." 세그먼트가 있는 경로는 어떤 패턴과도 일치하지 않습니다 (인증 필요).
+ * 게이트웨이는 경로를 정규화하지 않고 전달하므로 "/boards/public/../1"이 "/boards/public/**"에 일치하면
+ * 업스트림(Tomcat)이 "/boards/1"로 정규화해 보호된 경로가 인증 없이 열리게 됩니다.
+ * (";" 경로 파라미터를 붙인 "..;"와 인코딩된 "%2e" 형태도 같은 세그먼트로 봄)
+ */
+public final class PublicPathMatcher {
+
+    private static final PublicPathMatcher NONE = new PublicPathMatcher(Set.of(), null);
+
+    private final Set<String> exactPaths;
+    private final Node wildcardRoot;
+
+    private PublicPathMatcher(Set<String> exactPaths, Node wildcardRoot) {
+        this.exactPaths = exactPaths;
+        this.wildcardRoot = wildcardRoot;
+    }
+
+    public static PublicPathMatcher compile(Collection<String> patterns) {
+        if (patterns == null || patterns.isEmpty()) {
+            return NONE;
+        }
+        Set<String> exactPaths = new HashSet<>();
+        Node wildcardRoot = null;
+        for (String raw : patterns) {
+            String pattern = normalize(raw.trim());
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            if (!pattern.contains("*")) {
+                exactPaths.add(pattern);
+                continue;
+            }
+            if (wildcardRoot == null) {
+                wildcardRoot = new Node();
+            }
+            wildcardRoot.insert(pattern);
+        }
+        return new PublicPathMatcher(Set.copyOf(exactPaths), wildcardRoot);
+    }
+
+    public boolean matches(String path) {
+        if (hasDotSegment(path)) {
+            return false;
+        }
+        String normalized = normalize(path);
+        if (exactPaths.contains(normalized)) {
+            return true;
+        }
+        return wildcardRoot != null && wildcardRoot.matches(normalized, 1);
+    }
+
+    private static boolean hasDotSegment(String path) {
+        if (!path.contains(".") && !path.contains("%")) {
+            return false;
+        }
+        for (String segment : path.split("/")) {
+            int parameters = segment.indexOf(';');
+            String name = (parameters >= 0 ? segment.substring(0, parameters) : segment)
+                    .toLowerCase(Locale.ROOT).replace("%2e", ".");
+            if (name.equals(".") || name.equals("..")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(String path) {
+        int end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return end == path.length() ? path : path.substring(0, end);
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        private Node anySegment;
+        private boolean terminal;
+        private boolean matchesAllBelow;
+
+        void insert(String pattern) {
+            Node node = this;
+            String[] segments = pattern.substring(1).split("/");
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if ("**".equals(segment) && i == segments.length - 1) {
+                    node.matchesAllBelow = true;
+                    return;
+                }
+                if ("*".equals(segment)) {
+                    if (node.anySegment == null) {
+                        node.anySegment = new Node();
+                    }
+                    node = node.anySegment;
+                } else {
+                    node = node.children.computeIfAbsent(segment, s -> new Node());
+                }
+            }
+            node.terminal = true;
+        }
+
+        boolean matches(String path, int offset) {
+            if (matchesAllBelow) {
+                return true;
+            }
+            if (offset > path.length()) {
+                return terminal;
+            }
+            int end = path.indexOf('/', offset);
+            if (end < 0) {
+                end = path.length();
+            }
+            Node child = children.get(path.substring(offset, end));
+            if (child != null && child.matches(path, end + 1)) {
+                return true;
+            }
+            return anySegment != null && end > offset && anySegment.matches(path, end + 1);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.apigateway.auth;
+
+/**
+ * 토큰을 거부한 이유
+ *
+ * 예외 대신 값으로 반환하므로 잘못된 토큰이 대량으로 들어와도
+ * 스택 트레이스 생성 비용 없이 바로 401로 응답할 수 있습니다.
+ */
+public enum RejectionReason {
+
+    /** 거부하지 않음 (다음 단계로 진행) */
+    NONE,
+
+    /** Authorization 헤더가 없거나 Bearer 형식이 아님 */
+    MISSING_TOKEN,
+
+    /** 토큰이 비어 있거나 허용 길이를 넘음 */
+    BAD_LENGTH,
+
+    /** header.payload.signature 세 구간 구조가 아님 */
+    MALFORMED,
+
+    /** base64url 이외의 문자가 포함됨 */
+    BAD_ENCODING,
+
+    /** 서명 검증 전에 이미 exp가 지난 토큰 */
+    EXPIRED,
+
+    /** 로그아웃 등으로 폐기된 토큰 */
+    REVOKED,
+
+    /** 서명 불일치, 알 수 없는 키 등 서명 검증 실패 */
+    INVALID_SIGNATURE,
+
+    /** Access Token이 아님 (예: Refresh Token으로 API 호출) */
+    WRONG_TOKEN_TYPE;
+
+    public boolean isRejected() {
+        return this != NONE;
+    }
+}
@@ -0,0 +1,347 @@
+package com.example.apigateway.auth;
+
+import com.example.apigateway.util.Fingerprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게이트웨이 로컬 폐기 토큰 목록 (Bloom Filter + 정확한 확인용 해시 테이블)
+ *
+ * 거의 모든 요청의 답은 "폐기되지 않음"이므로 Bloom Filter로 먼저 걸러 상수 시간에 끝내고,
+ * Bloom Filter가 "있을 수도 있음"이라고 할 때만 해시 테이블에서 정확히 확인합니다.
+ * 원격 호출은 전혀 없으며, 폐기 기록은 RevocationSync가 Member Service에서 주기적으로 받아 옵니다.
+ *
+ * 메모리: jti 문자열 대신 64비트 지문(fingerprint)과 만료 시각만 원시 배열에 보관하므로
+ *        항목당 약 40바이트 (100만 건 ≒ 40MB)
+ * 가득 참: jwt.revocation.max-entries에 도달하면 새 폐기는 항상 기록하고, 대신 원래 만료가 가장 가까운 항목을
+ *        정확히 최대 항목 수의 1%만 밀어냄 (밀려난 토큰은 남은 만료 시간 동안 다시 통과하므로
+ *        max-entries는 동시에 유효한 폐기 건수보다 넉넉하게 잡아야 함, evictedEntries로 확인)
+ * 정리:   토큰의 원래 만료 시각이 지난 항목은 purgeExpired에서 테이블과 필터를 새로 만들어 제거
+ *        (가장 이른 만료 시각이 지나지 않았으면 훑지 않고, 훑더라도 jwt.revocation.purge-interval에 한 번만)
+ *
+ * 읽기(isRevoked)는 잠금 없이 수행되고, 쓰기(add/purge)는 동기화 스레드에서만 직렬로 수행됩니다.
+ */
+@Component
+public class RevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationList.class);
+
+    private static final int MIN_CAPACITY = 1024;
+
+    private final int maxEntries;
+    private final double falsePositiveRate;
+    private final LongAdder bloomHits = new LongAdder();
+    private final LongAdder evictedEntries = new LongAdder();
+    private final long purgeIntervalMillis;
+    private long lastPurgeMillis;
+
+    private volatile Snapshot snapshot;
+
+    public RevocationList(@Value("${jwt.revocation.max-entries:2000000}") int maxEntries,
+                          @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                          @Value("${jwt.revocation.purge-interval:PT1M}") Duration purgeInterval) {
+        this.maxEntries = maxEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.purgeIntervalMillis = purgeInterval.toMillis();
+        this.snapshot = new Snapshot(MIN_CAPACITY, falsePositiveRate);
+    }
+
+    /**
+     * 요청 경로에서 호출: 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        if (current.size() == 0) {
+            return false;
+        }
+        long fingerprint = Fingerprint.of(tokenId);
+        if (!current.bloom.mightContain(fingerprint)) {
+            return false;
+        }
+        bloomHits.increment();
+        long expiresAt = current.get(fingerprint);
+        return expiresAt > System.currentTimeMillis();
+    }
+
+    public synchronized void add(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        long nowMillis = System.currentTimeMillis();
+        Snapshot current = snapshot;
+        if (current.size() >= maxEntries) {
+            current = purge(current, nowMillis);
+            if (current.size() >= maxEntries) {
+                current = evictSoonestExpiring(current, nowMillis);
+            }
+        }
+        if (current.isFull()) {
+            current = rebuild(current, Math.max(current.capacity * 2, MIN_CAPACITY), nowMillis);
+        }
+        current.put(Fingerprint.of(tokenId), expiresAtMillis);
+    }
+
+    /**
+     * 만료된 항목을 빼고 테이블과 Bloom Filter를 새로 만들어 교체 (Bloom Filter는 개별 삭제가 불가능)
+     * 가장 이른 만료 시각이 아직 지나지 않았거나 마지막 정리 후 purge-interval이 지나지 않았으면 바로 반환
+     */
+    public synchronized void purgeExpired(long nowMillis) {
+        Snapshot current = snapshot;
+        if (current.earliestExpiry > nowMillis || nowMillis - lastPurgeMillis < purgeIntervalMillis) {
+            return;
+        }
+        purge(current, nowMillis);
+    }
+
+    private Snapshot purge(Snapshot current, long nowMillis) {
+        lastPurgeMillis = nowMillis;
+        int live = current.countLive(nowMillis);
+        if (live == current.size()) {
+            return current;
+        }
+        return rebuild(current, capacityFor(live), nowMillis);
+    }
+
+    /**
+     * 만료가 가장 가까운 항목부터 정확히 최대 항목 수의 1%를 밀어냄 (이미 곧 자연 만료될 토큰이므로 영향이 가장 작음)
+     *
+     * exp는 초 단위라 한꺼번에 폐기된 토큰(일괄 로그아웃 등)은 만료 시각이 같으므로, 기준 시각과 같은 항목은
+     * 필요한 개수만큼만 밀어내고 나머지는 남김
+     */
+    private Snapshot evictSoonestExpiring(Snapshot current, long nowMillis) {
+        long[] expirations = current.liveExpirations(nowMillis);
+        Arrays.sort(expirations);
+        int evict = Math.min(Math.max(1, maxEntries / 100), expirations.length);
+        long cutoff = expirations[evict - 1];
+        int evictAtCutoff = evict - lowerBound(expirations, cutoff);
+        Snapshot rebuilt = new Snapshot(capacityFor(expirations.length), falsePositiveRate);
+        current.copyEvicting(rebuilt, nowMillis, cutoff, evictAtCutoff);
+        this.snapshot = rebuilt;
+        evictedEntries.add(evict);
+        log.warn("Revocation list is full ({} entries), evicted {} revocations expiring at or before {}",
+                maxEntries, evict, cutoff);
+        return rebuilt;
+    }
+
+    /**
+     * 정렬된 배열에서 value보다 작은 값의 개수
+     */
+    private static int lowerBound(long[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int capacityFor(int entries) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < entries * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * keepAfterMillis 이후에 만료되는 항목만 새 테이블로 옮김
+     */
+    private Snapshot rebuild(Snapshot from, int capacity, long keepAfterMillis) {
+        Snapshot rebuilt = new Snapshot(capacity, falsePositiveRate);
+        from.copyLiveTo(rebuilt, keepAfterMillis);
+        this.snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    /** Bloom Filter를 통과해 정확한 확인까지 간 횟수 */
+    public long bloomHits() {
+        return bloomHits.sum();
+    }
+
+    /** 최대 항목 수에 도달해 만료 전에 밀어낸 폐기 건수 */
+    public long evictedEntries() {
+        return evictedEntries.sum();
+    }
+
+    /**
+     * 한 시점의 필터와 테이블 (교체는 volatile 참조 하나로 원자적으로)
+     */
+    private static final class Snapshot {
+
+        private final int capacity;
+        private final BloomFilter bloom;
+        // 선형 탐사 해시 테이블: 키 0은 빈 칸을 뜻하므로 지문 0은 1로 치환
+        private final AtomicLongArray keys;
+        private final AtomicLongArray expirations;
+        private volatile int size;
+        private long earliestExpiry = Long.MAX_VALUE;  // 쓰기 스레드에서만 사용
+
+        Snapshot(int capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.bloom = new BloomFilter(capacity / 2, falsePositiveRate);
+            this.keys = new AtomicLongArray(capacity);
+            this.expirations = new AtomicLongArray(capacity);
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isFull() {
+            return size >= capacity / 2;
+        }
+
+        void put(long fingerprint, long expiresAtMillis) {
+            long key = fingerprint == 0 ? 1 : fingerprint;
+            int mask = capacity - 1;
+            int index = (int) key & mask;
+            while (true) {
+                long existing = keys.get(index);
+                if (existing == 0) {
+                    // 값을 먼저 쓰고 키를 나중에 써서, 읽는 쪽이 키를 보면 값도 보이도록 함
+                    expirations.set(index, expiresAtMillis);
+                    keys.set(index, key);
+                    size++;
+                    break;
+                }
+                if (existing == key) {
+                    expirations.set(index, Math.max(expirations.get(index), expiresAtMillis));
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+            bloom.put(key);
+            earliestExpiry = Math.min(earliestExpiry, expiresAtMillis);
+        }
+
+        long get(long fingerprint) {
+            long key = fingerprint == 0 ? 1 : fingerprint;
+            int mask = capacity - 1;
+            int index = (int) key & mask;
+            while (true) {
+                long existing = keys.get(index);
+                if (existing == 0) {
+                    return 0;
+                }
+                if (existing == key) {
+                    return expirations.get(index);
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        int countLive(long nowMillis) {
+            int live = 0;
+            for (int i = 0; i < capacity; i++) {
+                if (keys.get(i) != 0 && expirations.get(i) > nowMillis) {
+                    live++;
+                }
+            }
+            return live;
+        }
+
+        long[] liveExpirations(long nowMillis) {
+            long[] live = new long[size];
+            int count = 0;
+            for (int i = 0; i < capacity; i++) {
+                long expiresAt = expirations.get(i);
+                if (keys.get(i) != 0 && expiresAt > nowMillis) {
+                    live[count++] = expiresAt;
+                }
+            }
+            return Arrays.copyOf(live, count);
+        }
+
+        /**
+         * 만료 시각이 cutoff보다 늦은 항목과, cutoff와 같은 항목 중 처음 evictAtCutoff개를 뺀 나머지를 옮김
+         */
+        void copyEvicting(Snapshot target, long nowMillis, long cutoff, int evictAtCutoff) {
+            int skipped = 0;
+            for (int i = 0; i < capacity; i++) {
+                long key = keys.get(i);
+                long expiresAt = expirations.get(i);
+                if (key == 0 || expiresAt <= nowMillis || expiresAt < cutoff) {
+                    continue;
+                }
+                if (expiresAt == cutoff && skipped < evictAtCutoff) {
+                    skipped++;
+                    continue;
+                }
+                target.put(key, expiresAt);
+            }
+        }
+
+        void copyLiveTo(Snapshot target, long nowMillis) {
+            for (int i = 0; i < capacity; i++) {
+                long key = keys.get(i);
+                long expiresAt = expirations.get(i);
+                if (key != 0 && expiresAt > nowMillis) {
+                    target.put(key, expiresAt);
+                }
+            }
+        }
+    }
+
+    /**
+     * 64비트 지문 하나에서 두 해시를 만들어 k개 비트를 사용하는 Bloom Filter (Kirsch–Mitzenmacher)
+     */
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedEntries, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.max(1, (m + 63) / 64);
+            this.bits = new AtomicLongArray(words);
+            this.bitCount = (long) words * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+        }
+
+        void put(long fingerprint) {
+            long h1 = fingerprint;
+            long h2 = Fingerprint.mix(fingerprint);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << (bit & 63);
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(long fingerprint) {
+            long h1 = fingerprint;
+            long h2 = Fingerprint.mix(fingerprint);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.apigateway.auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Member Service의 폐기 기록을 주기적으로 받아 RevocationList에 반영
+ *
+ * 폐기 기록은 로그아웃을 처리한 Member Service 인스턴스에만 있으므로,
+ * 로드밸런서로 한 곳만 부르지 않고 Eureka에 등록된 모든 인스턴스를 각각 조회합니다.
+ * 인스턴스별로 (epoch, 마지막 순번)을 기억해 두고 그 이후 기록만 받아 옵니다.
+ *
+ * 반영 지연: 로그아웃 후 최대 jwt.revocation.sync-interval (기본 2초) 동안은 토큰이 계속 통과할 수 있음
+ *
+ * 폐기 기록 API는 게이트웨이 전용이므로, 조회할 때마다 게이트웨이 역할(GATEWAY_ROLE)의 X-USER-ASSERTION을 붙입니다.
+ * (Member Service는 이 서명 없이 온 /members/revocations 요청을 거부)
+ */
+@Component
+public class RevocationSync {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationSync.class);
+
+    static final String GATEWAY_MEMBER_ID = "api-gateway";
+    static final String GATEWAY_ROLE = "GATEWAY";
+
+    private final RevocationList revocationList;
+    private final ReactiveDiscoveryClient discoveryClient;
+    private final IdentityAssertionSigner identityAssertionSigner;
+    private final WebClient webClient;
+    private final String serviceId;
+    private final Duration syncInterval;
+    private final Duration timeout;
+
+    // 인스턴스 ID → 마지막으로 받은 위치
+    private final Map<String, Cursor> cursors = new ConcurrentHashMap<>();
+    private Disposable subscription;
+
+    public RevocationSync(RevocationList revocationList,
+                          ReactiveDiscoveryClient discoveryClient,
+                          IdentityAssertionSigner identityAssertionSigner,
+                          @Value("${jwt.revocation.service-id:member-service}") String serviceId,
+                          @Value("${jwt.revocation.sync-interval:PT2S}") Duration syncInterval,
+                          @Value("${jwt.revocation.timeout:PT1S}") Duration timeout) {
+        this.revocationList = revocationList;
+        this.discoveryClient = discoveryClient;
+        this.identityAssertionSigner = identityAssertionSigner;
+        this.webClient = WebClient.builder().build();
+        this.serviceId = serviceId;
+        this.syncInterval = syncInterval;
+        this.timeout = timeout;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = Flux.interval(Duration.ZERO, syncInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> syncOnce(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * 모든 인스턴스를 한 번씩 조회하고 만료된 항목을 정리
+     */
+    Mono<Void> syncOnce() {
+        return discoveryClient.getInstances(serviceId)
+                .flatMap(this::pull)
+                .then(Mono.fromRunnable(() -> revocationList.purgeExpired(System.currentTimeMillis())))
+                .onErrorResume(e -> {
+                    log.debug("Revocation sync failed: {}", e.toString());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Void> pull(ServiceInstance instance) {
+        String instanceId = instance.getInstanceId() != null ? instance.getInstanceId() : instance.getUri().toString();
+        Cursor cursor = cursors.getOrDefault(instanceId, Cursor.INITIAL);
+        return webClient.get()
+                .uri(instance.getUri() + "/members/revocations?since={since}", cursor.sequence())
+                .header(IdentityAssertionSigner.HEADER, identityAssertionSigner.sign(GATEWAY_MEMBER_ID, GATEWAY_ROLE))
+                .retrieve()
+                .bodyToMono(RevocationBatch.class)
+                .timeout(timeout)
+                .flatMap(batch -> {
+                    if (cursor.epoch() != null && !cursor.epoch().equals(batch.epoch())) {
+                        // 인스턴스가 재시작되어 순번이 초기화됨: 처음부터 다시 받음
+                        cursors.put(instanceId, new Cursor(batch.epoch(), 0));
+                        return pull(instance);
+                    }
+                    apply(batch);
+                    cursors.put(instanceId, new Cursor(batch.epoch(), batch.sequence()));
+                    return Mono.<Void>empty();
+                })
+                .onErrorResume(e -> {
+                    log.debug("Revocation sync from {} failed: {}", instanceId, e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    private void apply(RevocationBatch batch) {
+        if (batch.revoked() == null) {
+            return;
+        }
+        for (RevokedToken token : batch.revoked()) {
+            revocationList.add(token.jti(), token.expiresAtMillis());
+        }
+    }
+
+    private record Cursor(String epoch, long sequence) {
+        static final Cursor INITIAL = new Cursor(null, 0);
+    }
+
+    record RevocationBatch(String epoch, long sequence, List<RevokedToken> revoked) {
+    }
+
+    record RevokedToken(String jti, long expiresAtMillis) {
+    }
+}
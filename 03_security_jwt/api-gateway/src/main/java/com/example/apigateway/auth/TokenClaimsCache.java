@@ -0,0 +1,134 @@
+package com.example.apigateway.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.example.apigateway.util.JwtKeySetReloadedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 검증된 토큰 정보 캐시
+ *
+ * 같은 Access Token이 만료될 때까지(기본 1시간) 반복해서 들어오므로,
+ * 한 번 서명 검증에 성공한 토큰은 SHA-256 다이제스트를 키로 결과를 보관하고
+ * 이후 요청에서는 HMAC 검증과 JSON 파싱을 건너뜁니다.
+ *
+ * - 크기 제한: jwt.claims-cache.max-size 개수를 넘으면 오래/적게 쓰인 항목부터 제거
+ * - 만료 인지: 각 항목은 토큰의 exp 시각(또는 max-ttl 중 빠른 쪽)에 자동 제거
+ * - 원본 토큰 문자열은 저장하지 않고 32바이트 다이제스트만 키로 사용
+ */
+@Component
+public class TokenClaimsCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private final boolean enabled;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    public TokenClaimsCache(@Value("${jwt.claims-cache.enabled:true}") boolean enabled,
+                            @Value("${jwt.claims-cache.max-size:100000}") long maxSize,
+                            @Value("${jwt.claims-cache.max-ttl:PT1H}") Duration maxTtl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(maxTtl.toMillis()))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 검증 결과가 있으면 그대로 반환하고, 없으면 verifier로 검증한 뒤 저장합니다.
+     * verifier가 던진 예외(서명 불일치, 만료 등)는 그대로 전파되며 실패 결과는 캐시하지 않습니다.
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        ByteBuffer key = digest(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        long now = System.currentTimeMillis();
+        if (cached != null && !cached.isExpired(now)) {
+            return cached;
+        }
+
+        VerifiedToken verified = verifier.apply(token);
+        if (!verified.isExpired(now)) {
+            cache.put(key, verified);
+        }
+        return verified;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 키가 폐기(rotation 후 제거)되면 그 키로 검증된 결과도 더 이상 신뢰할 수 없으므로 비움
+     */
+    @EventListener
+    public void onKeySetReloaded(JwtKeySetReloadedEvent event) {
+        if (event.hasRemovedKeys()) {
+            invalidateAll();
+        }
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 히트/미스/제거(eviction) 카운터
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static final class TokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        private final long maxTtlMillis;
+
+        private TokenExpiry(long maxTtlMillis) {
+            this.maxTtlMillis = maxTtlMillis;
+        }
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            if (remainingMillis <= 0) {
+                return 0;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.min(remainingMillis, maxTtlMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.apigateway.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 서명 검증 전 구조 사전 검사
+ *
+ * 봇이 보내는 임의 문자열, 잘린 토큰, 이미 만료된 토큰은 HMAC 계산과 JSON 파싱 없이
+ * 여기서 바로 거부합니다. 문자열을 한 번 훑는 것이 전부이며 객체를 거의 만들지 않습니다.
+ *
+ * 검사 항목:
+ * 1. 길이 (jwt.precheck.max-token-length)
+ * 2. 구간 구조: 정확히 두 개의 '.'으로 나뉜 비어 있지 않은 세 구간
+ * 3. base64url 문자 집합 (A-Z a-z 0-9 - _), 헤더/페이로드가 JSON 객체('{')로 시작하는지
+ * 4. 페이로드 최상위 exp 클레임이 이미 지났는지 (중첩 객체 안의 exp는 무시, 너무 큰 값은 먼 미래로 취급)
+ *
+ * 여기서 통과해도 유효한 토큰이라는 뜻은 아니며, 서명 검증은 반드시 이어서 수행해야 합니다.
+ */
+@Component
+public class TokenPrechecker {
+
+    private static final byte[] BASE64URL_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE64URL_VALUES, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL_VALUES[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private static final byte[] EXP_KEY = {'"', 'e', 'x', 'p', '"'};
+
+    private final int maxTokenLength;
+    private final long clockSkewMillis;
+    private final ThreadLocal<byte[]> payloadBuffer;
+
+    public TokenPrechecker(@Value("${jwt.precheck.max-token-length:4096}") int maxTokenLength,
+                           @Value("${jwt.precheck.clock-skew:PT0S}") Duration clockSkew) {
+        this.maxTokenLength = maxTokenLength;
+        this.clockSkewMillis = clockSkew.toMillis();
+        this.payloadBuffer = ThreadLocal.withInitial(() -> new byte[maxTokenLength * 3 / 4 + 3]);
+    }
+
+    public RejectionReason check(String token) {
+        return check(token, System.currentTimeMillis());
+    }
+
+    RejectionReason check(String token, long nowMillis) {
+        int length = token.length();
+        if (length == 0 || length > maxTokenLength) {
+            return RejectionReason.BAD_LENGTH;
+        }
+
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    return RejectionReason.MALFORMED;
+                }
+            } else if (c >= 128 || BASE64URL_VALUES[c] < 0) {
+                return RejectionReason.BAD_ENCODING;
+            }
+        }
+        if (secondDot < 0 || firstDot == 0 || secondDot == firstDot + 1 || secondDot == length - 1) {
+            return RejectionReason.MALFORMED;
+        }
+
+        // base64url "ey" 로 시작해야 디코딩 결과가 '{' 로 시작하는 JSON 객체
+        if (!startsWithJsonObject(token, 0) || !startsWithJsonObject(token, firstDot + 1)) {
+            return RejectionReason.MALFORMED;
+        }
+
+        long exp = readExp(token, firstDot + 1, secondDot);
+        if (exp >= 0 && expiresAtMillis(exp) <= nowMillis) {
+            return RejectionReason.EXPIRED;
+        }
+        return RejectionReason.NONE;
+    }
+
+    /**
+     * exp(초) + 허용 오차를 밀리초로 (넘치면 Long.MAX_VALUE = 만료되지 않음)
+     */
+    private long expiresAtMillis(long exp) {
+        try {
+            return Math.addExact(Math.multiplyExact(exp, 1000L), clockSkewMillis);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static boolean startsWithJsonObject(String token, int offset) {
+        return token.charAt(offset) == 'e' && token.charAt(offset + 1) == 'y';
+    }
+
+    /**
+     * 페이로드를 스레드별 버퍼에 디코딩하고 최상위 "exp": 숫자 값을 찾음 (없으면 -1)
+     * 문자열 안의 내용은 건너뛰고 중괄호/대괄호 깊이를 세어, 최상위 객체의 키로 쓰인 "exp"만 인정합니다.
+     */
+    private long readExp(String token, int start, int end) {
+        byte[] buffer = payloadBuffer.get();
+        int size = decode(token, start, end, buffer);
+
+        int depth = 0;
+        boolean inString = false;
+        for (int i = 0; i < size; i++) {
+            byte b = buffer[i];
+            if (inString) {
+                if (b == '\\') {
+                    i++;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '"') {
+                if (depth == 1 && startsWith(buffer, size, i, EXP_KEY)) {
+                    int j = skipWhitespace(buffer, size, i + EXP_KEY.length);
+                    if (j < size && buffer[j] == ':') {
+                        return readNumber(buffer, size, skipWhitespace(buffer, size, j + 1));
+                    }
+                }
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 0 이상의 정수 (숫자가 아니면 -1, 18자리를 넘으면 Long.MAX_VALUE)
+     */
+    private static long readNumber(byte[] buffer, int size, int i) {
+        long value = 0;
+        int digits = 0;
+        while (i < size && buffer[i] >= '0' && buffer[i] <= '9') {
+            if (digits == 18) {
+                return Long.MAX_VALUE;
+            }
+            value = value * 10 + (buffer[i] - '0');
+            i++;
+            digits++;
+        }
+        return digits > 0 ? value : -1;
+    }
+
+    private static int skipWhitespace(byte[] buffer, int size, int i) {
+        while (i < size && (buffer[i] == ' ' || buffer[i] == '\t' || buffer[i] == '\n' || buffer[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int decode(String token, int start, int end, byte[] out) {
+        int size = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = start; i < end; i++) {
+            bits = (bits << 6) | BASE64URL_VALUES[token.charAt(i)];
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[size++] = (byte) (bits >> bitCount);
+                bits &= (1 << bitCount) - 1;
+            }
+        }
+        return size;
+    }
+
+    private static boolean startsWith(byte[] buffer, int size, int offset, byte[] target) {
+        if (offset + target.length > size) {
+            return false;
+        }
+        for (int j = 0; j < target.length; j++) {
+            if (buffer[offset + j] != target[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.apigateway.auth;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 클라이언트가 보낸 X-USER-* 헤더 제거
+ *
+ * X-USER-ID / X-USER-ROLE / X-USER-ASSERTION은 JwtAuthenticationFilter가 인증 결과로만 붙이는 헤더입니다.
+ * 인증이 없는 라우트(로그인)나 공개 경로에서 클라이언트가 보낸 값이 그대로 서비스에 전달되지 않도록
+ * 모든 라우트 필터보다 먼저 지웁니다.
+ */
+@Component
+public class UntrustedIdentityHeaderFilter implements GlobalFilter, Ordered {
+
+    private static final String PREFIX = "x-user-";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        List<String> untrusted = exchange.getRequest().getHeaders().keySet().stream()
+                .filter(name -> name.toLowerCase(Locale.ROOT).startsWith(PREFIX))
+                .toList();
+        if (untrusted.isEmpty()) {
+            return chain.filter(exchange);
+        }
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> untrusted.forEach(headers::remove))
+                .build();
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    @Override
+    public int getOrder() {
+        // 접근 로그(HIGHEST_PRECEDENCE) 바로 다음
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.apigateway.auth;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 검증이 끝난 JWT에서 게이트웨이가 실제로 사용하는 값만 추린 불변 객체
+ *
+ * Claims 전체를 들고 다니지 않고 필요한 값만 보관하므로
+ * 캐시에 오래 남아 있어도 메모리 부담이 작습니다.
+ */
+public record VerifiedToken(String tokenId, String memberId, String role, String type, long expiresAtMillis) {
+
+    public static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.get("type", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE
+        );
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.apigateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 게이트웨이에 저장된 업스트림 응답 한 건 (상태 코드, 헤더, 본문 전체)
+ *
+ * @param etag 업스트림이 준 ETag, 없으면 본문 해시로 만든 값 (둘 다 약한 ETag)
+ */
+public record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, String etag) {
+
+    private static final int HEADER_OVERHEAD_BYTES = 256;
+
+    /**
+     * 캐시 용량(max-bytes) 계산용 대략적인 크기
+     */
+    public int weight() {
+        return body.length + HEADER_OVERHEAD_BYTES;
+    }
+
+    /**
+     * 저장된 상태 코드, 헤더, 본문을 응답으로 씀 (필터가 이미 설정한 헤더는 그대로 유지)
+     */
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        headers.forEach(response.getHeaders()::putIfAbsent);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.apigateway.cache;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 본문 해시 기반 ETag 생성과 If-None-Match 비교
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * 본문 SHA-256의 앞 16바이트로 만든 약한(weak) ETag
+     *
+     * 게이트웨이가 응답을 gzip으로 다시 인코딩할 수 있으므로(server.compression) 같은 값이 압축본과 원본 모두를 가리킴.
+     * 바이트 단위로 같음을 보장하는 강한 ETag를 쓰면 캐시의 강한 비교/Range 요청이 어긋나므로 약한 ETag로 표시
+     */
+    public static String of(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "W/\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 업스트림이 준 강한 ETag를 약한 ETag로 (이미 약하면 그대로, 이유는 of 참고)
+     */
+    public static String weak(String etag) {
+        return etag.startsWith("W/") ? etag : "W/" + etag;
+    }
+
+    /**
+     * If-None-Match 헤더 값 목록 중 etag와 일치하는 것이 있는지 (W/ 접두사는 무시하는 약한 비교)
+     */
+    public static boolean matches(Iterable<String> ifNoneMatch, String etag) {
+        String target = strip(etag);
+        for (String header : ifNoneMatch) {
+            for (String candidate : header.split(",")) {
+                String value = candidate.trim();
+                if (value.equals("*") || strip(value).equals(target)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String strip(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
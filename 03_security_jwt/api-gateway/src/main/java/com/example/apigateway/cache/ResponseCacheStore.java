@@ -0,0 +1,108 @@
+package com.example.apigateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게이트웨이 응답 캐시 저장소 (모든 라우트가 하나의 용량을 공유)
+ *
+ * - 용량 제한: 본문 크기 합계가 gateway.response-cache.max-bytes를 넘으면
+ *              Caffeine의 W-TinyLFU 정책으로 자주 쓰이지 않는 항목부터 제거 (LRU + LFU 혼합)
+ * - 만료: 항목마다 라우트에 설정한 TTL 적용
+ * - 무효화: 같은 라우트에 쓰기 요청(POST/PUT/DELETE)이 성공하면 라우트의 세대(generation)를 올려
+ *           이전 세대 항목을 더 이상 조회하지 않음 (남은 항목은 TTL/용량 정책으로 자연히 제거)
+ */
+@Component
+public class ResponseCacheStore {
+
+    private final int maxEntryBytes;
+    private final Cache<String, Entry> cache;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public ResponseCacheStore(@Value("${gateway.response-cache.max-bytes:64MB}") DataSize maxBytes,
+                              @Value("${gateway.response-cache.max-entry-bytes:256KB}") DataSize maxEntryBytes) {
+        this.maxEntryBytes = (int) Math.min(Integer.MAX_VALUE, maxEntryBytes.toBytes());
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes.toBytes())
+                .weigher((String key, Entry entry) -> entry.response().weight() + key.length() * 2)
+                .expireAfter(new EntryExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 라우트 ID, 현재 세대, 사용자, 경로와 쿼리를 합친 캐시 키
+     */
+    public String key(String routeId, String userId, String path, String query) {
+        long generation = generations.computeIfAbsent(routeId, id -> new AtomicLong()).get();
+        StringBuilder key = new StringBuilder(routeId.length() + path.length() + 48)
+                .append(routeId).append('#').append(generation)
+                .append('|').append(userId != null ? userId : "")
+                .append('|').append(path);
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        return key.toString();
+    }
+
+    public CachedResponse get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry != null ? entry.response() : null;
+    }
+
+    public void put(String key, CachedResponse response, Duration ttl) {
+        if (response.body().length <= maxEntryBytes) {
+            cache.put(key, new Entry(response, ttl.toNanos()));
+        }
+    }
+
+    /**
+     * 라우트의 저장된 응답을 모두 무효화
+     */
+    public void invalidateRoute(String routeId) {
+        generations.computeIfAbsent(routeId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    public int maxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private record Entry(CachedResponse response, long ttlNanos) {
+    }
+
+    private static final class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.apigateway.cache;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 클라이언트로 나가는 응답 본문을 그대로 흘려보내면서 사본을 모으는 응답 데코레이터
+ *
+ * 본문 전체를 모아 두었다가 보내는 방식이 아니므로 응답 지연이 늘지 않고,
+ * 본문이 maxBytes를 넘으면 사본 수집을 포기해 큰 응답이 게이트웨이 메모리를 차지하지 않습니다.
+ * 본문 전송이 정상 완료되었을 때만 onComplete가 호출됩니다.
+ *
+ * etagWhen을 지정하면 조건에 맞는 응답(업스트림 ETag 없음)은 maxBytes까지 본문을 모은 뒤 ETag 헤더를 붙여 보냅니다.
+ * 헤더는 본문보다 먼저 나가야 하므로 이 경우에만 본문을 잠시 모으며, maxBytes를 넘으면 ETag 없이 그대로 흘려보냅니다.
+ */
+public class ResponseCapture extends ServerHttpResponseDecorator {
+
+    // 저장된 응답을 다시 보낼 때 새로 계산되거나 의미가 없는 헤더
+    private static final List<String> EXCLUDED_HEADERS = List.of(
+            HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION,
+            HttpHeaders.SET_COOKIE, HttpHeaders.DATE);
+
+    private final int maxBytes;
+    private final Predicate<ServerHttpResponse> etagWhen;
+    private final Consumer<CachedResponse> onComplete;
+
+    public ResponseCapture(ServerHttpResponse delegate, int maxBytes, Consumer<CachedResponse> onComplete) {
+        this(delegate, maxBytes, null, onComplete);
+    }
+
+    public ResponseCapture(ServerHttpResponse delegate, int maxBytes, Predicate<ServerHttpResponse> etagWhen,
+                           Consumer<CachedResponse> onComplete) {
+        super(delegate);
+        this.maxBytes = maxBytes;
+        this.etagWhen = etagWhen;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        Flux<? extends DataBuffer> source = Flux.from(body);
+        String upstreamETag = getHeaders().getETag();
+        if (upstreamETag != null) {
+            // 캐시가 다시 내보낼 응답의 검증자와 맞추고, 게이트웨이 압축 후에도 유효하도록 약한 ETag로
+            getHeaders().setETag(ETags.weak(upstreamETag));
+        } else if (etagWhen != null && etagWhen.test(this)) {
+            source = tagged(source);
+        }
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        boolean[] overflow = {false};
+        Flux<? extends DataBuffer> captured = source
+                .doOnNext(buffer -> {
+                    int length = buffer.readableByteCount();
+                    if (overflow[0] || copy.size() + length > maxBytes) {
+                        overflow[0] = true;
+                        return;
+                    }
+                    ByteBuffer bytes = ByteBuffer.allocate(length);
+                    buffer.toByteBuffer(buffer.readPosition(), bytes, 0, length);
+                    copy.write(bytes.array(), 0, length);
+                })
+                .doOnComplete(() -> {
+                    if (!overflow[0]) {
+                        onComplete.accept(snapshot(copy.toByteArray()));
+                    }
+                });
+        return super.writeWith(captured);
+    }
+
+    /**
+     * 본문을 maxBytes까지 모아 보고, 끝까지 모였으면 ETag를 설정한 뒤 모은 버퍼부터 이어서 보냄
+     */
+    private Flux<DataBuffer> tagged(Flux<? extends DataBuffer> body) {
+        int[] total = {0};
+        return body.<DataBuffer>map(buffer -> buffer)
+                .bufferUntil(buffer -> (total[0] += buffer.readableByteCount()) > maxBytes)
+                .switchOnFirst((first, buffers) -> {
+                    if (first.hasValue() && total[0] <= maxBytes) {
+                        getHeaders().setETag(ETags.of(join(first.get())));
+                    }
+                    return buffers;
+                })
+                .concatMapIterable(buffers -> buffers);
+    }
+
+    private static byte[] join(List<DataBuffer> buffers) {
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        for (DataBuffer buffer : buffers) {
+            int length = buffer.readableByteCount();
+            ByteBuffer bytes = ByteBuffer.allocate(length);
+            buffer.toByteBuffer(buffer.readPosition(), bytes, 0, length);
+            joined.write(bytes.array(), 0, length);
+        }
+        return joined.toByteArray();
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        return writeWith(Flux.from(body).concatMap(Flux::from));
+    }
+
+    private CachedResponse snapshot(byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        getHeaders().forEach((name, values) -> {
+            if (EXCLUDED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                headers.put(name, List.copyOf(values));
+            }
+        });
+        HttpStatusCode status = getStatusCode() != null ? getStatusCode() : HttpStatusCode.valueOf(200);
+        String etag = headers.getETag() != null ? headers.getETag() : ETags.of(body);
+        return new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), body, etag);
+    }
+}
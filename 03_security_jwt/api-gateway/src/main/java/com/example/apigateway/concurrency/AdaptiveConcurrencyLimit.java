@@ -0,0 +1,177 @@
+package com.example.apigateway.concurrency;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 응답 시간을 보고 스스로 조정되는 동시 요청 한도 (Gradient + AIMD)
+ *
+ * 고정된 요청 한도(RequestRateLimiter)는 서비스 인스턴스가 늘거나 의존 서비스가 느려져 처리 능력이 바뀌어도 그대로입니다.
+ * 이 한도는 "동시에 처리 중인 요청 수"를 제한하고, 그 값을 응답 시간 변화로 계속 조정합니다.
+ * 응답 시간은 구간(최소 100ms, 10건 이상) 단위로 평균을 내어 한도를 한 번씩 조정합니다.
+ * - 최근 구간의 평균 응답 시간과 대기 없는 응답 시간(no-load RTT, 지금까지 본 구간 평균의 최솟값)을 비교
+ * - 최근 응답이 대기 없는 응답보다 tolerance배 이상 느려지면(업스트림에 대기열이 생김) 그 비율만큼 한도를 줄임
+ * - 그렇지 않으면 한도 + √한도까지 조금씩 늘려 여유 처리 능력을 찾음
+ * - 약 1~1.5분마다 두 구간 동안 한도를 절반으로 낮춰 대기열을 비운 뒤 no-load RTT를 다시 측정 (probe)
+ *   업스트림 자체가 느려진 경우(의존 서비스 지연 등)에도 기준이 새 값으로 바뀌고, 측정이 끝나면 원래 한도로 돌아감
+ * - 구간 안에 오류(5xx, 연결 실패)가 있으면 과부하 신호로 보고 한도를 backoff-ratio배로 줄임 (multiplicative decrease)
+ * - 처리 중 요청이 한도의 절반도 안 되면 한도를 늘리지 않음 (요청이 적을 때 한도가 끝없이 커지지 않도록)
+ *
+ * 한도를 넘는 요청은 기다리지 않고 바로 거절하므로(AdaptiveConcurrencyFilter가 503 응답),
+ * 업스트림이 느려질 때 게이트웨이에 요청이 쌓이지 않습니다.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int WINDOW_MIN_SAMPLES = 10;
+    private static final int PROBE_INTERVAL_WINDOWS = 600;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double noLoadRtt;
+
+    // no-load RTT 재측정: 남은 구간 수, 단계(0=대기, 1=대기열 비우는 중, 2=측정 중), 측정 전 한도
+    private int windowsUntilProbe = nextProbeInterval();
+    private int probePhase;
+    private double limitBeforeProbe;
+
+    // 현재 구간 집계
+    private long windowStart;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, tolerance, backoffRatio, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double backoffRatio,
+                             LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("invalid limits: min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.nanoClock = nanoClock;
+        this.windowStart = nanoClock.getAsLong();
+    }
+
+    /**
+     * 한도 안이면 처리 중 요청으로 세고 true, 넘으면 false (호출자는 요청을 거절)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 요청 완료: 처리 중 요청에서 빼고 응답 시간을 한도 계산에 반영
+     *
+     * @param dropped 오류 응답(과부하 신호)이면 true
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        update(rttNanos, dropped, current);
+    }
+
+    /**
+     * 응답 시간을 알 수 없는 완료 (클라이언트 취소 등): 처리 중 요청에서만 뺌
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void update(long rttNanos, boolean dropped, int inFlightAtCompletion) {
+        windowDropped |= dropped;
+        if (!dropped && rttNanos > 0) {
+            windowRttSum += rttNanos;
+            windowSamples++;
+        }
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtCompletion);
+        long now = nanoClock.getAsLong();
+        if (now - windowStart < WINDOW_NANOS || (windowSamples < WINDOW_MIN_SAMPLES && !windowDropped)) {
+            return;
+        }
+        if (windowDropped) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            limitBeforeProbe = Math.max(minLimit, limitBeforeProbe * backoffRatio);
+        } else if (!probe((double) windowRttSum / windowSamples)) {
+            adjust((double) windowRttSum / windowSamples, windowMaxInFlight);
+        }
+        windowStart = now;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+    }
+
+    /**
+     * no-load RTT 재측정 단계면 구간 결과를 측정에 쓰고 true (이 구간에는 한도를 조정하지 않음)
+     */
+    private boolean probe(double rtt) {
+        switch (probePhase) {
+            case 1 -> probePhase = 2;
+            case 2 -> {
+                noLoadRtt = rtt;
+                limit = Math.max(limit, limitBeforeProbe);
+                probePhase = 0;
+                windowsUntilProbe = nextProbeInterval();
+            }
+            default -> {
+                if (--windowsUntilProbe > 0 || noLoadRtt == 0) {
+                    return false;
+                }
+                limitBeforeProbe = limit;
+                limit = Math.max(minLimit, limit / 2);
+                probePhase = 1;
+            }
+        }
+        return true;
+    }
+
+    private void adjust(double rtt, int maxInFlight) {
+        noLoadRtt = noLoadRtt == 0 ? rtt : Math.min(noLoadRtt, rtt);
+        if (maxInFlight < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * noLoadRtt / rtt));
+        double queueSize = Math.sqrt(limit);
+        double next = limit * gradient + queueSize;
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + next * SMOOTHING));
+    }
+
+    /**
+     * 게이트웨이 여러 대가 동시에 재측정하지 않도록 간격을 흩뜨림
+     */
+    private static int nextProbeInterval() {
+        return PROBE_INTERVAL_WINDOWS + ThreadLocalRandom.current().nextInt(PROBE_INTERVAL_WINDOWS / 2);
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.apigateway.filter;
+
+import com.example.apigateway.concurrency.AdaptiveConcurrencyLimit;
+import com.example.apigateway.metrics.GatewayMetrics;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 라우트별 동시 처리 요청 수를 응답 시간에 맞춰 조정하고, 한도를 넘는 요청은 바로 503으로 거절하는 필터
+ *
+ * RequestRateLimiter는 초당 요청 수를 고정값으로 제한하므로 board-service 인스턴스가 늘거나
+ * 의존 서비스가 느려져 처리 능력이 바뀌어도 한도가 그대로입니다.
+ * 이 필터는 업스트림 응답 시간이 늘어나기 시작하면 동시 요청 한도를 줄이고, 여유가 생기면 다시 늘립니다 (AdaptiveConcurrencyLimit).
+ * - 한도를 넘는 요청은 대기시키지 않고 즉시 503 응답 (게이트웨이와 업스트림에 대기열이 쌓이지 않음)
+ * - 업스트림 5xx 응답과 호출 실패는 과부하 신호로 보고 한도를 비율로 줄임
+ * - 클라이언트가 요청을 취소하면 응답 시간은 반영하지 않고 처리 중 요청에서만 뺌
+ *
+ * 라우트별로 gateway.concurrency.limit / gateway.concurrency.inflight / gateway.concurrency.shed 메트릭을 기록합니다.
+ * 캐시·합치기 필터 뒤에 두어야 실제로 업스트림까지 가는 요청만 한도에 포함됩니다.
+ */
+@Component
+public class AdaptiveConcurrencyFilter extends AbstractGatewayFilterFactory<AdaptiveConcurrencyFilter.Config> {
+
+    private final GatewayMetrics metrics;
+
+    public AdaptiveConcurrencyFilter(GatewayMetrics metrics) {
+        super(Config.class);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(config.getInitialLimit(), config.getMinLimit(),
+                config.getMaxLimit(), config.getTolerance(), config.getBackoffRatio());
+        if (config.getRouteId() != null) {
+            metrics.registerConcurrencyLimit(config.getRouteId(), limit);
+        }
+
+        return (exchange, chain) -> {
+            if (!limit.tryAcquire()) {
+                metrics.recordConcurrencyShed(exchange);
+                exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                return exchange.getResponse().setComplete();
+            }
+            long start = System.nanoTime();
+            return chain.filter(exchange)
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) {
+                            limit.release();
+                            return;
+                        }
+                        HttpStatusCode status = exchange.getResponse().getStatusCode();
+                        boolean dropped = signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError());
+                        limit.release(System.nanoTime() - start, dropped);
+                    });
+        };
+    }
+
+    public static class Config implements HasRouteId {
+        // 시작 한도 (응답 시간을 보며 조정됨)
+        private int initialLimit = 20;
+        // 한도 하한 (오류가 계속되어도 이만큼은 업스트림으로 보내 회복 여부를 확인)
+        private int minLimit = 5;
+        // 한도 상한
+        private int maxLimit = 500;
+        // 대기 없는 응답 시간 대비 허용할 응답 시간 배율 (1.5 = 50% 느려질 때까지는 한도를 줄이지 않음)
+        private double tolerance = 1.5;
+        // 오류가 난 구간마다 한도에 곱할 비율
+        private double backoffRatio = 0.9;
+        private String routeId;
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public double getTolerance() {
+            return tolerance;
+        }
+
+        public void setTolerance(double tolerance) {
+            this.tolerance = tolerance;
+        }
+
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+
+        public void setBackoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+        }
+
+        @Override
+        public void setRouteId(String routeId) {
+            this.routeId = routeId;
+        }
+
+        @Override
+        public String getRouteId() {
+            return routeId;
+        }
+    }
+}
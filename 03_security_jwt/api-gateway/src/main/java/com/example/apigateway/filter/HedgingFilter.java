@@ -0,0 +1,281 @@
+package com.example.apigateway.filter;
+
+import com.example.apigateway.hedge.BufferedResponse;
+import com.example.apigateway.hedge.HedgeExclusionServiceInstanceListSupplier;
+import com.example.apigateway.hedge.HedgePolicy;
+import com.example.apigateway.metrics.GatewayMetrics;
+import io.netty.buffer.ByteBufAllocator;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ORIGINAL_REQUEST_URL_ATTR;
+
+/**
+ * 응답이 늦은 GET 요청을 다른 인스턴스에 한 번 더 보내고 먼저 온 응답을 사용하는 필터 (hedged request)
+ *
+ * 인스턴스 하나가 GC 등으로 잠시 멈추면 그 인스턴스로 간 요청은 모두 멈춘 시간만큼 늦어집니다.
+ * 이 필터를 적용한 라우트는 GET 요청에 delay(최근 응답 시간의 delay-percentile 값)가 지나도록 응답이 없으면
+ * 같은 요청을 다른 인스턴스로 보내고, 두 호출 중 먼저 끝난 응답을 돌려준 뒤 나머지 호출은 취소합니다.
+ * - 조회(GET)에만 적용: 두 번 실행되어도 결과가 같은 요청만 헤지
+ * - 추가 요청은 budget-percent%로 제한 (HedgePolicy), 예산이 없으면 첫 요청만 기다림
+ * - 헤지 요청의 인스턴스는 로드밸런서가 첫 요청의 인스턴스를 빼고 고름 (HedgeExclusionServiceInstanceListSupplier)
+ * - Content-Length가 max-body-size 이하인 응답은 본문까지 받은 호출이 이김 (본문을 모아 두었다가 보냄)
+ * - Content-Length가 더 크거나 없는(chunked) 응답은 헤더가 먼저 도착한 호출이 이기고,
+ *   본문은 모으지 않고 그 호출의 업스트림 연결에서 그대로 흘려보냄 (같은 요청을 다시 보내지 않음, 응답 캐시 등 앞선 필터는 그대로 적용)
+ * - 헤지 요청이 실패하면 첫 요청의 결과를 그대로 사용, 첫 요청의 실패는 바로 클라이언트로 전달
+ *
+ * 라우트별로 gateway.hedge.sent / gateway.hedge.won 메트릭을 기록합니다.
+ * 라우트 필터 목록의 마지막에 두어야 합니다 (뒤의 라우트 필터도 두 번 실행되므로).
+ */
+@Component
+public class HedgingFilter extends AbstractGatewayFilterFactory<HedgingFilter.Config> {
+
+    private static final NettyDataBufferFactory BUFFERS = new NettyDataBufferFactory(ByteBufAllocator.DEFAULT);
+    private static final List<MediaType> STREAMING_MEDIA_TYPES =
+            List.of(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_NDJSON);
+
+    private final GatewayMetrics metrics;
+
+    public HedgingFilter(GatewayMetrics metrics) {
+        super(Config.class);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        HedgePolicy policy = new HedgePolicy(config.getDelayPercentile(), config.getMinDelay(), config.getMaxDelay(),
+                config.getBudgetPercent());
+        int maxBodyBytes = (int) Math.min(Integer.MAX_VALUE, config.getMaxBodySize().toBytes());
+
+        return (exchange, chain) -> {
+            if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+            policy.onRequest();
+
+            Attempt primary = new Attempt(exchange, maxBodyBytes, null);
+            AtomicReference<Attempt> secondary = new AtomicReference<>();
+            Mono<Attempt> hedge = Mono.delay(Duration.ofNanos(policy.delayNanos()))
+                    .flatMap(tick -> {
+                        String instance = primary.instance();
+                        if (instance == null || !policy.tryAcquire()) {
+                            return Mono.never();
+                        }
+                        metrics.recordHedgeSent(exchange);
+                        Attempt attempt = new Attempt(exchange, maxBodyBytes, instance);
+                        secondary.set(attempt);
+                        return attempt.run(chain, policy)
+                                .onErrorResume(e -> Mono.never());
+                    });
+
+            return Mono.firstWithSignal(primary.run(chain, policy), hedge)
+                    .flatMap(winner -> {
+                        // 진 호출이 거의 동시에 끝났다면 취소가 닿지 않으므로 남은 연결을 직접 정리
+                        Attempt loser = winner == primary ? secondary.get() : primary;
+                        if (loser != null) {
+                            loser.disposeConnection();
+                        }
+                        if (winner != primary) {
+                            metrics.recordHedgeWon(exchange);
+                        }
+                        return winner.writeTo(exchange);
+                    });
+        };
+    }
+
+    /**
+     * 업스트림 호출 한 번: 속성과 응답을 원래 exchange와 분리해 두 호출이 서로 덮어쓰지 않도록 함
+     */
+    private static final class Attempt {
+
+        private final Map<String, Object> attributes;
+        private final BufferedResponse response;
+        private final ServerWebExchange exchange;
+        private final int maxBodyBytes;
+        private volatile Connection connection;
+        private volatile boolean streaming;
+
+        private Attempt(ServerWebExchange original, int maxBodyBytes, String excludedInstance) {
+            this.maxBodyBytes = maxBodyBytes;
+            // 헤지 요청을 보낼 때 다른 스레드에서 첫 호출의 인스턴스를 읽으므로 동시 접근 가능한 맵 사용
+            this.attributes = new ConcurrentHashMap<>(original.getAttributes());
+            // 로드밸런서 필터가 원래 URL을 추가하는 집합은 두 호출이 동시에 수정하지 않도록 복사
+            if (attributes.get(GATEWAY_ORIGINAL_REQUEST_URL_ATTR) instanceof Set<?> urls) {
+                attributes.put(GATEWAY_ORIGINAL_REQUEST_URL_ATTR, new LinkedHashSet<>(urls));
+            }
+            if (excludedInstance != null) {
+                attributes.put(HedgeExclusionServiceInstanceListSupplier.EXCLUDED_INSTANCE_ATTR, excludedInstance);
+            }
+            this.response = new BufferedResponse(original.getResponse().bufferFactory(), maxBodyBytes);
+            this.exchange = new ServerWebExchangeDecorator(original) {
+                @Override
+                public Map<String, Object> getAttributes() {
+                    return attributes;
+                }
+
+                @Override
+                public ServerHttpResponse getResponse() {
+                    return response;
+                }
+            };
+        }
+
+        private Mono<Attempt> run(GatewayFilterChain chain, HedgePolicy policy) {
+            return Mono.defer(() -> {
+                long start = System.nanoTime();
+                return chain.filter(exchange)
+                        .then(Mono.defer(this::readBody))
+                        .then(Mono.fromSupplier(() -> {
+                            policy.record(System.nanoTime() - start);
+                            return this;
+                        }))
+                        .doOnCancel(this::disposeConnection)
+                        .doOnError(e -> disposeConnection());
+            });
+        }
+
+        /**
+         * 업스트림 응답 본문 읽기
+         *
+         * NettyRoutingFilter는 응답 헤더까지만 받고 본문은 연결(CLIENT_RESPONSE_CONN_ATTR)에 남겨 두며,
+         * 평소에는 라우트 필터보다 바깥에서 실행되는 NettyWriteResponseFilter가 원래 exchange의 연결에서 본문을 복사합니다.
+         * 여기서는 호출마다 자기 연결의 본문을 직접 읽고 속성에서 연결을 지워, 원래 exchange로 옮겨지지 않도록 합니다.
+         * Content-Length가 max-body-size를 넘거나 없으면 본문은 읽지 않고 연결만 기억해 두었다가,
+         * 이 호출이 이기면 writeTo에서 연결의 본문을 모으지 않고 그대로 흘려보냅니다.
+         */
+        private Mono<Void> readBody() {
+            if (!(attributes.get(CLIENT_RESPONSE_CONN_ATTR) instanceof Connection connection)) {
+                return Mono.empty();
+            }
+            this.connection = connection;
+            attributes.remove(CLIENT_RESPONSE_CONN_ATTR);
+            long contentLength = response.getHeaders().getContentLength();
+            if (contentLength < 0 || contentLength > maxBodyBytes) {
+                streaming = true;
+                return Mono.empty();
+            }
+            return response.writeWith(connection.inbound().receive().retain().map(BUFFERS::wrap));
+        }
+
+        private void disposeConnection() {
+            Connection connection = this.connection != null ? this.connection
+                    : (Connection) attributes.get(CLIENT_RESPONSE_CONN_ATTR);
+            if (connection != null) {
+                connection.dispose();
+            }
+        }
+
+        /**
+         * 로드밸런서가 고른 인스턴스 (아직 고르기 전이면 null)
+         */
+        private String instance() {
+            return attributes.get(GATEWAY_LOADBALANCER_RESPONSE_ATTR) instanceof Response<?> lb
+                    && lb.hasServer() && lb.getServer() instanceof ServiceInstance server
+                    ? HedgeExclusionServiceInstanceListSupplier.key(server) : null;
+        }
+
+        private Mono<Void> writeTo(ServerWebExchange original) {
+            // 접근 로그 등이 실제로 응답한 호출의 인스턴스와 단계별 시간을 보도록 속성을 옮김
+            original.getAttributes().putAll(attributes);
+            original.getAttributes().remove(HedgeExclusionServiceInstanceListSupplier.EXCLUDED_INSTANCE_ATTR);
+            if (streaming) {
+                return stream(original.getResponse());
+            }
+            return response.writeTo(original.getResponse());
+        }
+
+        /**
+         * 모으지 않은 본문을 업스트림 연결에서 그대로 전달
+         *
+         * NettyWriteResponseFilter에 맡기면 바깥 exchange의 응답에 바로 쓰여 앞선 라우트 필터(응답 캐시 등)의
+         * 응답 데코레이터를 거치지 않으므로, 이 필터가 받은 응답으로 직접 씁니다 (방식은 NettyWriteResponseFilter와 같음).
+         */
+        private Mono<Void> stream(ServerHttpResponse target) {
+            response.copyStatusAndHeadersTo(target);
+            Flux<DataBuffer> body = connection.inbound().receive().retain().map(BUFFERS::wrap);
+            MediaType contentType = target.getHeaders().getContentType();
+            Mono<Void> write = contentType != null && STREAMING_MEDIA_TYPES.stream().anyMatch(contentType::isCompatibleWith)
+                    ? target.writeAndFlushWith(body.map(Flux::just))
+                    : target.writeWith(body);
+            return write.doOnCancel(this::disposeConnection);
+        }
+    }
+
+    public static class Config {
+        // 헤지 요청을 보내기 전 기다릴 시간의 기준 백분위 (최근 응답 시간 분포)
+        private double delayPercentile = 0.95;
+        // 기다릴 시간의 하한 (응답이 매우 빠른 라우트에서 헤지가 과도하게 나가지 않도록)
+        private Duration minDelay = Duration.ofMillis(10);
+        // 기다릴 시간의 상한 (표본이 부족할 때도 이 값 사용)
+        private Duration maxDelay = Duration.ofSeconds(1);
+        // 원래 요청 대비 추가 요청 비율 상한 (%)
+        private double budgetPercent = 10;
+        // 헤지를 위해 모아 둘 수 있는 최대 응답 본문 크기 (Content-Length 기준, 넘거나 없으면 모으지 않고 그대로 전달)
+        private DataSize maxBodySize = DataSize.ofKilobytes(256);
+
+        public double getDelayPercentile() {
+            return delayPercentile;
+        }
+
+        public void setDelayPercentile(double delayPercentile) {
+            this.delayPercentile = delayPercentile;
+        }
+
+        public Duration getMinDelay() {
+            return minDelay;
+        }
+
+        public void setMinDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+        }
+
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        public void setMaxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+
+        public double getBudgetPercent() {
+            return budgetPercent;
+        }
+
+        public void setBudgetPercent(double budgetPercent) {
+            this.budgetPercent = budgetPercent;
+        }
+
+        public DataSize getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public void setMaxBodySize(DataSize maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+    }
+}
@@ -1,7 +1,17 @@
 package com.example.apigateway.filter;
 
+import com.example.apigateway.auth.IdentityAssertionSigner;
+import com.example.apigateway.auth.PublicPathMatcher;
+import com.example.apigateway.auth.RejectionReason;
+import com.example.apigateway.auth.RevocationList;
+import com.example.apigateway.auth.TokenClaimsCache;
+import com.example.apigateway.auth.TokenPrechecker;
+import com.example.apigateway.auth.VerifiedToken;
+import com.example.apigateway.metrics.GatewayMetrics;
 import com.example.apigateway.util.JwtUtil;
+import com.example.apigateway.util.UnknownKeyIdException;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -11,24 +21,48 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 @Component
 public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAuthenticationFilter.Config> {
 
+    // 인증에 성공한 요청의 회원 ID (클라이언트가 보낸 헤더와 구분하기 위해 exchange 속성으로도 보관)
+    public static final String AUTHENTICATED_MEMBER_ATTR = JwtAuthenticationFilter.class.getName() + ".memberId";
+
     private final JwtUtil jwtUtil;
+    private final TokenClaimsCache tokenClaimsCache;
+    private final TokenPrechecker tokenPrechecker;
+    private final RevocationList revocationList;
+    private final IdentityAssertionSigner identityAssertionSigner;
+    private final GatewayMetrics metrics;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, TokenClaimsCache tokenClaimsCache, TokenPrechecker tokenPrechecker,
+                                   RevocationList revocationList, IdentityAssertionSigner identityAssertionSigner,
+                                   GatewayMetrics metrics) {
         super(Config.class);
         this.jwtUtil = jwtUtil;
+        this.tokenClaimsCache = tokenClaimsCache;
+        this.tokenPrechecker = tokenPrechecker;
+        this.revocationList = revocationList;
+        this.identityAssertionSigner = identityAssertionSigner;
+        this.metrics = metrics;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
+        // 라우트 생성 시 공개 경로 목록을 한 번만 컴파일 (요청마다 조회 한 번)
+        PublicPathMatcher publicPaths = PublicPathMatcher.compile(config.getPublicPaths());
+
         return (exchange, chain) -> {
+            long start = System.nanoTime();
             ServerHttpRequest request = exchange.getRequest();
             
             // 인증이 필요하지 않은 경로는 통과
             String path = request.getURI().getPath();
-            if (isPublicPath(path)) {
+            if (publicPaths.matches(path)) {
+                metrics.recordPublic(exchange, start);
                 return chain.filter(exchange);
             }
 
@@ -36,51 +70,83 @@ public class JwtAuthenticationFilter extends AbstractGatewayFilterFactory<JwtAut
             String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
             
             if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-                return onError(exchange, "Missing or invalid Authorization header", HttpStatus.UNAUTHORIZED);
+                return onError(exchange, start, RejectionReason.MISSING_TOKEN);
             }
 
             String token = authHeader.substring(7);
 
-            try {
-                // JWT 토큰 검증
-                if (!jwtUtil.validateToken(token) || !jwtUtil.isAccessToken(token)) {
-                    return onError(exchange, "Invalid token", HttpStatus.UNAUTHORIZED);
-                }
-
-                // 사용자 정보 추출
-                String memberId = jwtUtil.getMemberIdFromToken(token);
-                String role = jwtUtil.getRoleFromToken(token);
+            // 서명 검증 전 구조/만료 사전 검사 (잘못된 토큰은 암호 연산 없이 거부)
+            RejectionReason rejection = tokenPrechecker.check(token);
+            if (rejection.isRejected()) {
+                return onError(exchange, start, rejection);
+            }
 
-                // 후속 서비스로 사용자 정보를 헤더에 전달
-                ServerHttpRequest modifiedRequest = request.mutate()
-                        .header("X-USER-ID", memberId)
-                        .header("X-USER-ROLE", role)
-                        .build();
+            try {
+                // JWT 토큰 검증 (요청당 최대 1회, 캐시 히트 시 서명 검증 생략)
+                VerifiedToken verified = tokenClaimsCache.get(token, jwtUtil::verify);
+                return forwardAuthenticated(exchange, chain, verified, start);
 
-                return chain.filter(exchange.mutate().request(modifiedRequest).build());
+            } catch (UnknownKeyIdException e) {
+                // 키 교체 직후 처음 보는 kid: 공개키 목록을 갱신한 뒤 한 번만 다시 검증
+                return jwtUtil.refreshKeys()
+                        .then(Mono.fromCallable(() -> Optional.of(tokenClaimsCache.get(token, jwtUtil::verify))))
+                        .onErrorReturn(Optional.empty())
+                        .flatMap(verified -> verified.isPresent()
+                                ? forwardAuthenticated(exchange, chain, verified.get(), start)
+                                : onError(exchange, start, RejectionReason.INVALID_SIGNATURE));
 
             } catch (Exception e) {
-                return onError(exchange, "Token validation failed", HttpStatus.UNAUTHORIZED);
+                return onError(exchange, start, RejectionReason.INVALID_SIGNATURE);
             }
         };
     }
 
-    private boolean isPublicPath(String path) {
-        // 인증이 필요하지 않은 공개 경로들
-        return path.contains("/login") || 
-               path.contains("/register") || 
-               path.contains("/health") ||
-               path.endsWith("/members/login") ||
-               path.endsWith("/members/register");
+    private Mono<Void> forwardAuthenticated(ServerWebExchange exchange, GatewayFilterChain chain, VerifiedToken verified,
+                                            long start) {
+        if (!verified.isAccessToken()) {
+            return onError(exchange, start, RejectionReason.WRONG_TOKEN_TYPE);
+        }
+
+        // 로그아웃으로 폐기된 토큰 거부 (로컬 메모리 조회만, 원격 호출 없음)
+        if (revocationList.isRevoked(verified.tokenId())) {
+            return onError(exchange, start, RejectionReason.REVOKED);
+        }
+
+        // 사용자 정보 추출
+        String memberId = verified.memberId();
+        String role = verified.role();
+
+        exchange.getAttributes().put(AUTHENTICATED_MEMBER_ATTR, memberId);
+
+        // 후속 서비스로 사용자 정보를 헤더에 전달
+        // (서비스는 서명된 X-USER-ASSERTION을 확인한 뒤에만 X-USER-ID/X-USER-ROLE을 신뢰)
+        ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
+                .header("X-USER-ID", memberId)
+                .header("X-USER-ROLE", role)
+                .header(IdentityAssertionSigner.HEADER, identityAssertionSigner.sign(memberId, role))
+                .build();
+
+        metrics.recordAuthenticated(exchange, start);
+        return chain.filter(exchange.mutate().request(modifiedRequest).build());
     }
 
-    private Mono<Void> onError(ServerWebExchange exchange, String err, HttpStatus httpStatus) {
+    private Mono<Void> onError(ServerWebExchange exchange, long start, RejectionReason reason) {
+        metrics.recordRejected(exchange, start, reason);
         ServerHttpResponse response = exchange.getResponse();
-        response.setStatusCode(httpStatus);
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
         return response.setComplete();
     }
 
     public static class Config {
-        // 필터 설정을 위한 빈 클래스
+        // 인증 없이 통과시킬 경로 (StripPrefix 적용 후 경로 기준, "*" = 세그먼트 하나, 끝의 "**" = 하위 전체)
+        private List<String> publicPaths = new ArrayList<>();
+
+        public List<String> getPublicPaths() {
+            return publicPaths;
+        }
+
+        public void setPublicPaths(List<String> publicPaths) {
+            this.publicPaths = publicPaths;
+        }
     }
 }
\ No newline at end of file
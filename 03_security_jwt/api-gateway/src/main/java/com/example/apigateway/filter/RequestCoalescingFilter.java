@@ -0,0 +1,150 @@
+package com.example.apigateway.filter;
+
+import com.example.apigateway.cache.CachedResponse;
+import com.example.apigateway.cache.ResponseCapture;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * 동시에 들어온 같은 GET 요청을 업스트림 호출 한 번으로 합치는 필터 (single-flight)
+ *
+ * 인기 게시글에 요청이 몰리면 같은 요청이 동시에 수십 건씩 Board Service로 전달됩니다.
+ * 이 필터는 진행 중인 호출이 있으면 새 요청을 그 호출의 결과를 기다리는 대기자로 등록하고,
+ * 첫 요청(leader)의 응답을 받으면 모든 대기자에게 같은 응답을 나눠 줍니다.
+ * - 합치는 기준: 라우트 + 사용자(X-USER-ID) + 경로 + 쿼리 → 권한 범위가 다른 요청은 합치지 않음
+ * - 오래된 데이터 없음: 진행 중인 호출에만 합류하며, 호출이 끝나면 결과를 보관하지 않음
+ * - max-waiters를 넘는 요청, timeout 안에 결과를 받지 못한 요청은 직접 업스트림을 호출
+ * - leader의 응답이 max-body-size보다 크거나 실패하면 대기자도 각자 업스트림을 호출
+ *
+ * X-USER-ID를 키로 쓰므로 라우트 필터 목록에서 JwtAuthenticationFilter 뒤에 두어야 합니다.
+ */
+@Component
+public class RequestCoalescingFilter extends AbstractGatewayFilterFactory<RequestCoalescingFilter.Config> {
+
+    static final String COALESCED_HEADER = "X-Coalesced";
+
+    private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    public RequestCoalescingFilter() {
+        super(Config.class);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        int maxBodyBytes = (int) Math.min(Integer.MAX_VALUE, config.getMaxBodySize().toBytes());
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            String key = key(exchange);
+            Flight flight = new Flight();
+            Flight existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                return lead(exchange, chain, key, flight, maxBodyBytes);
+            }
+            if (existing.waiters.incrementAndGet() > config.getMaxWaiters()) {
+                existing.waiters.decrementAndGet();
+                return chain.filter(exchange);
+            }
+            return existing.result.asMono()
+                    .timeout(config.getTimeout(), Mono.empty())
+                    .doFinally(signal -> existing.waiters.decrementAndGet())
+                    .flatMap(response -> {
+                        coalescedRequests.increment();
+                        exchange.getResponse().getHeaders().set(COALESCED_HEADER, "true");
+                        return response.writeTo(exchange.getResponse()).thenReturn(true);
+                    })
+                    .switchIfEmpty(Mono.defer(() -> chain.filter(exchange).thenReturn(true)))
+                    .then();
+        };
+    }
+
+    private Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain, String key, Flight flight, int maxBodyBytes) {
+        ResponseCapture capture = new ResponseCapture(exchange.getResponse(), maxBodyBytes, response -> {
+            // 결과를 알리기 전에 먼저 제거해야 이후 요청이 끝난 호출에 합류하지 않음
+            inFlight.remove(key, flight);
+            flight.result.tryEmitValue(response);
+        });
+        return chain.filter(exchange.mutate().response(capture).build())
+                .doFinally(signal -> {
+                    // 본문이 없거나 크기 초과, 오류, 취소: 대기자는 각자 호출
+                    inFlight.remove(key, flight);
+                    flight.result.tryEmitEmpty();
+                });
+    }
+
+    private static String key(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        ServerHttpRequest request = exchange.getRequest();
+        String userId = request.getHeaders().getFirst("X-USER-ID");
+        String query = request.getURI().getRawQuery();
+        return (route != null ? route.getId() : "") + '|' + (userId != null ? userId : "")
+                + '|' + request.getURI().getRawPath() + (query != null ? "?" + query : "");
+    }
+
+    /**
+     * 다른 요청의 응답을 나눠 받은 요청 수
+     */
+    public long coalescedRequests() {
+        return coalescedRequests.sum();
+    }
+
+    private static final class Flight {
+        private final Sinks.One<CachedResponse> result = Sinks.one();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+
+    public static class Config {
+        // 한 호출을 기다릴 수 있는 최대 요청 수 (넘으면 직접 호출)
+        private int maxWaiters = 1000;
+        // 대기자가 leader의 응답을 기다리는 최대 시간 (넘으면 직접 호출)
+        private Duration timeout = Duration.ofSeconds(3);
+        // 대기자에게 나눠 줄 수 있는 최대 응답 본문 크기
+        private DataSize maxBodySize = DataSize.ofKilobytes(256);
+
+        public int getMaxWaiters() {
+            return maxWaiters;
+        }
+
+        public void setMaxWaiters(int maxWaiters) {
+            this.maxWaiters = maxWaiters;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public DataSize getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public void setMaxBodySize(DataSize maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+    }
+}
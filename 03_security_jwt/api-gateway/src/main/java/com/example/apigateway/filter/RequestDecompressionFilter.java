@@ -0,0 +1,193 @@
+package com.example.apigateway.filter;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.DecompressionException;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR;
+
+/**
+ * 압축된 요청 본문(Content-Encoding: gzip / deflate)을 풀어서 업스트림에 전달하는 필터
+ *
+ * 모바일 클라이언트가 게시글 작성(POST /api/boards) 본문을 압축해 보내도 Board Service(Tomcat)는 그대로 읽을 수 없으므로
+ * 게이트웨이에서 풀고 Content-Encoding을 지운 뒤 chunked로 전달합니다.
+ * - 본문을 모으지 않고 들어오는 대로 Netty zlib 디코더로 풀어 보냄 (이벤트 루프에서 처리, 메모리 사용 일정)
+ * - 풀린 크기가 max-size를 넘으면 413 (작은 압축 본문이 매우 크게 풀리는 요청 차단)
+ * - 손상된 압축 본문은 400, gzip/deflate 외의 인코딩은 415
+ * - Content-Encoding이 없는 요청은 그대로 통과
+ */
+@Component
+public class RequestDecompressionFilter extends AbstractGatewayFilterFactory<RequestDecompressionFilter.Config> {
+
+    private static final NettyDataBufferFactory BUFFERS = new NettyDataBufferFactory(ByteBufAllocator.DEFAULT);
+    // Netty ZlibDecoder가 maxAllocation을 넘을 때 던지는 DecompressionException 메시지의 앞부분
+    private static final String BUFFER_EXHAUSTED = "Decompression buffer has reached maximum size";
+
+    public RequestDecompressionFilter() {
+        super(Config.class);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        long maxBytes = config.getMaxSize().toBytes();
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String encoding = request.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+            if (encoding == null || encoding.isBlank() || encoding.trim().equalsIgnoreCase("identity")) {
+                return chain.filter(exchange);
+            }
+            ZlibWrapper wrapper = switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+                case "gzip", "x-gzip" -> ZlibWrapper.GZIP;
+                // HTTP의 deflate는 zlib 형식이지만 헤더 없는 raw deflate를 보내는 클라이언트도 있어 둘 다 허용
+                case "deflate" -> ZlibWrapper.ZLIB_OR_NONE;
+                default -> null;
+            };
+            if (wrapper == null) {
+                return reject(exchange.getResponse(), HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+            }
+
+            ServerHttpRequest headers = request.mutate()
+                    .headers(h -> {
+                        h.remove(HttpHeaders.CONTENT_ENCODING);
+                        h.remove(HttpHeaders.CONTENT_LENGTH);
+                        h.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+                    })
+                    .build();
+            // 본문 전송 중 압축 해제가 실패하면 업스트림 요청이 중단되어 업스트림의 오류 응답이 먼저 올 수 있으므로 원인을 따로 기록
+            AtomicReference<HttpStatus> failure = new AtomicReference<>();
+            ServerHttpRequest decompressed = new ServerHttpRequestDecorator(headers) {
+                @Override
+                public Flux<DataBuffer> getBody() {
+                    return decompress(super.getBody(), wrapper, maxBytes).doOnError(e -> failure.set(status(e)));
+                }
+            };
+            return chain.filter(exchange.mutate().request(decompressed).build())
+                    .onErrorResume(e -> failure.get() != null ? Mono.empty() : Mono.error(e))
+                    .then(Mono.defer(() -> failure.get() == null || exchange.getResponse().isCommitted()
+                            ? Mono.empty() : replaceUpstreamResponse(exchange, failure.get())));
+        };
+    }
+
+    /**
+     * 압축 본문을 받는 대로 풀어서 내보냄 (풀린 크기 합계가 maxBytes를 넘으면 DataBufferLimitException)
+     *
+     * 디코더가 입력 조각 하나를 풀며 할당하는 출력 버퍼도 maxBytes + 1로 제한해,
+     * 작은 조각 하나가 매우 크게 풀리는 경우에도 합계를 확인하기 전에 메모리를 크게 잡지 않도록 합니다.
+     */
+    static Flux<DataBuffer> decompress(Flux<DataBuffer> body, ZlibWrapper wrapper, long maxBytes) {
+        int maxAllocation = (int) Math.min(Integer.MAX_VALUE, maxBytes + 1);
+        return Flux.defer(() -> {
+            EmbeddedChannel decoder = new EmbeddedChannel(ZlibCodecFactory.newZlibDecoder(wrapper, maxAllocation));
+            long[] total = {0};
+            return body.concatMapIterable(buffer -> {
+                        // 디코더가 입력 ByteBuf를 다 읽은 뒤 해제함
+                        decode(() -> decoder.writeInbound(NettyDataBufferFactory.toByteBuf(buffer)), maxBytes);
+                        return drain(decoder, total, maxBytes);
+                    })
+                    .concatWith(Flux.defer(() -> {
+                        decode(decoder::finish, maxBytes);
+                        return Flux.fromIterable(drain(decoder, total, maxBytes));
+                    }))
+                    .doFinally(signal -> decoder.finishAndReleaseAll());
+        });
+    }
+
+    /**
+     * 디코더의 출력 버퍼가 maxAllocation에 닿으면(풀린 크기가 maxBytes 초과) 손상된 본문과 구분해 DataBufferLimitException으로 바꿈
+     */
+    private static void decode(Runnable step, long maxBytes) {
+        try {
+            step.run();
+        } catch (DecompressionException e) {
+            if (e.getMessage() != null && e.getMessage().startsWith(BUFFER_EXHAUSTED)) {
+                throw new DataBufferLimitException("Decompressed request body exceeds " + maxBytes + " bytes");
+            }
+            throw e;
+        }
+    }
+
+    private static List<DataBuffer> drain(EmbeddedChannel decoder, long[] total, long maxBytes) {
+        List<DataBuffer> out = new ArrayList<>();
+        ByteBuf chunk;
+        while ((chunk = decoder.readInbound()) != null) {
+            total[0] += chunk.readableBytes();
+            if (total[0] > maxBytes) {
+                chunk.release();
+                out.forEach(DataBufferUtils::release);
+                throw new DataBufferLimitException("Decompressed request body exceeds " + maxBytes + " bytes");
+            }
+            out.add(BUFFERS.wrap(chunk));
+        }
+        return out;
+    }
+
+    /**
+     * 압축 해제 오류의 응답 상태 (클라이언트 연결 끊김 등 그 밖의 오류는 null)
+     */
+    private static HttpStatus status(Throwable error) {
+        for (Throwable e = error; e != null; e = e.getCause()) {
+            if (e instanceof DataBufferLimitException) {
+                return HttpStatus.PAYLOAD_TOO_LARGE;
+            }
+            if (e instanceof DecompressionException) {
+                return HttpStatus.BAD_REQUEST;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 업스트림 응답(중단된 요청에 대한 오류)을 버리고 압축 해제 실패 상태로 응답
+     */
+    private static Mono<Void> replaceUpstreamResponse(ServerWebExchange exchange, HttpStatus status) {
+        if (exchange.getAttributes().remove(CLIENT_RESPONSE_CONN_ATTR) instanceof Connection connection) {
+            connection.dispose();
+        }
+        exchange.getResponse().getHeaders().clear();
+        return reject(exchange.getResponse(), status);
+    }
+
+    private static Mono<Void> reject(ServerHttpResponse response, HttpStatus status) {
+        response.setStatusCode(status);
+        return response.setComplete();
+    }
+
+    public static class Config {
+        // 풀린 본문의 최대 크기
+        private DataSize maxSize = DataSize.ofMegabytes(10);
+
+        public DataSize getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(DataSize maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.apigateway.filter;
+
+import com.example.apigateway.cache.CachedResponse;
+import com.example.apigateway.cache.ETags;
+import com.example.apigateway.cache.ResponseCacheStore;
+import com.example.apigateway.cache.ResponseCapture;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * 라우트 단위 응답 캐시 필터
+ *
+ * 같은 사용자가 같은 게시글을 반복 조회하는 요청은 Board Service까지 가지 않고
+ * 게이트웨이 메모리에서 바로 응답합니다.
+ * - 캐시 키: 라우트 + 사용자(X-USER-ID) + 경로 + 쿼리 → 사용자별 응답이 섞이지 않음
+ * - GET 요청의 200 응답만 저장 (Cache-Control: no-store, no-cache, private 응답 제외)
+ * - 저장할 응답에는 처음(MISS) 응답부터 ETag를 붙이고, 이후 If-None-Match가 일치하면 본문 없이 304 응답
+ * - 같은 라우트의 쓰기 요청이 성공하면 그 라우트의 저장된 응답을 모두 무효화
+ *
+ * X-USER-ID를 키로 쓰므로 라우트 필터 목록에서 JwtAuthenticationFilter 뒤에 두어야 합니다.
+ * 다른 게이트웨이 인스턴스나 서비스에 직접 들어온 쓰기는 알 수 없으므로 ttl만큼 이전 응답이 보일 수 있습니다.
+ */
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    static final String CACHE_STATUS_HEADER = "X-Cache";
+    private static final Set<String> NON_CACHEABLE_DIRECTIVES = Set.of("no-store", "no-cache", "private");
+
+    private final ResponseCacheStore store;
+
+    public ResponseCacheFilter(ResponseCacheStore store) {
+        super(Config.class);
+        this.store = store;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        Duration ttl = config.getTtl();
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "";
+
+            if (request.getMethod() != HttpMethod.GET) {
+                if (request.getMethod() == HttpMethod.HEAD || request.getMethod() == HttpMethod.OPTIONS) {
+                    return chain.filter(exchange);
+                }
+                // 쓰기 요청이 성공하면 이 라우트의 저장된 응답은 더 이상 최신이 아님
+                return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (status != null && status.is2xxSuccessful()) {
+                        store.invalidateRoute(routeId);
+                    }
+                }));
+            }
+
+            String key = store.key(routeId, request.getHeaders().getFirst("X-USER-ID"),
+                    request.getURI().getRawPath(), request.getURI().getRawQuery());
+            CachedResponse cached = store.get(key);
+            if (cached != null) {
+                return writeCached(exchange, cached);
+            }
+
+            exchange.getResponse().getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+            ResponseCapture capture = new ResponseCapture(exchange.getResponse(), store.maxEntryBytes(),
+                    response -> isCacheable(response.getStatusCode(), response.getHeaders()),
+                    response -> {
+                        if (isCacheable(response.status(), response.headers())) {
+                            store.put(key, response, ttl);
+                        }
+                    });
+            return chain.filter(exchange.mutate().response(capture).build());
+        };
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.etag());
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+
+        List<String> ifNoneMatch = exchange.getRequest().getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ETags.matches(ifNoneMatch, cached.etag())) {
+            cached.headers().forEach(headers::putIfAbsent);
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        return cached.writeTo(response);
+    }
+
+    /**
+     * 200 응답 중 공유 저장이 허용된 것만 (no-store, no-cache, private 지시어가 있으면 저장하지 않음)
+     * 상태 코드가 아직 없으면 200으로 간주 (본문을 쓰기 시작할 때 기본값)
+     */
+    static boolean isCacheable(HttpStatusCode status, HttpHeaders headers) {
+        if (status != null && status.value() != HttpStatus.OK.value()) {
+            return false;
+        }
+        for (String cacheControl : headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)) {
+            for (String directive : cacheControl.split(",")) {
+                String name = directive.trim().toLowerCase(Locale.ROOT);
+                int equals = name.indexOf('=');
+                if (equals >= 0) {
+                    name = name.substring(0, equals).trim();
+                }
+                if (NON_CACHEABLE_DIRECTIVES.contains(name)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public static class Config {
+        // 저장된 응답 유지 시간
+        private Duration ttl = Duration.ofSeconds(30);
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
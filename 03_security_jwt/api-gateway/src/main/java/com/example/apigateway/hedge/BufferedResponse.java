@@ -0,0 +1,95 @@
+package com.example.apigateway.hedge;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.AbstractServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 클라이언트로 보내지 않고 게이트웨이 안에 모아 두는 응답
+ *
+ * 같은 요청을 두 인스턴스에 보낼 때 각 호출의 응답을 여기에 받아 두고,
+ * 먼저 끝난 쪽만 writeTo로 실제 응답에 씁니다.
+ * 본문이 maxBytes를 넘으면 DataBufferLimitException으로 실패합니다.
+ * (HedgingFilter는 Content-Length가 maxBytes 이하인 응답만 여기에 모으고, 나머지는 상태 코드와 헤더만 옮김)
+ */
+public class BufferedResponse extends AbstractServerHttpResponse {
+
+    // 본문을 다시 쓸 때 새로 계산되거나 의미가 없는 헤더
+    private static final List<String> EXCLUDED_HEADERS = List.of(
+            HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION);
+
+    private final int maxBytes;
+    private byte[] body = new byte[0];
+
+    public BufferedResponse(DataBufferFactory bufferFactory, int maxBytes) {
+        super(bufferFactory);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 모아 둔 상태 코드, 헤더, 본문을 실제 응답으로 씀 (필터가 이미 설정한 헤더는 그대로 유지)
+     */
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        HttpStatusCode status = getStatusCode();
+        response.setStatusCode(status != null ? status : HttpStatusCode.valueOf(200));
+        getHeaders().forEach((name, values) -> {
+            if (EXCLUDED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                response.getHeaders().putIfAbsent(name, values);
+            }
+        });
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * 상태 코드와 헤더만 실제 응답으로 옮김 (본문은 업스트림 연결에서 그대로 흘려보낼 때)
+     */
+    public void copyStatusAndHeadersTo(ServerHttpResponse response) {
+        HttpStatusCode status = getStatusCode();
+        response.setStatusCode(status != null ? status : HttpStatusCode.valueOf(200));
+        getHeaders().forEach(response.getHeaders()::putIfAbsent);
+    }
+
+    @Override
+    public <T> T getNativeResponse() {
+        throw new IllegalStateException("BufferedResponse has no native response");
+    }
+
+    @Override
+    protected Mono<Void> writeWithInternal(Publisher<? extends DataBuffer> body) {
+        return DataBufferUtils.join(body, maxBytes)
+                .doOnNext(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    this.body = bytes;
+                })
+                .then();
+    }
+
+    @Override
+    protected Mono<Void> writeAndFlushWithInternal(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        return writeWithInternal(Flux.from(body).concatMap(Flux::from));
+    }
+
+    @Override
+    protected void applyStatusCode() {
+    }
+
+    @Override
+    protected void applyHeaders() {
+    }
+
+    @Override
+    protected void applyCookies() {
+    }
+}
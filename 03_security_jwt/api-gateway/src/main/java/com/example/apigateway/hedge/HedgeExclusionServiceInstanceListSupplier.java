@@ -0,0 +1,50 @@
+package com.example.apigateway.hedge;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.loadbalancer.core.DelegatingServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * 헤지 요청이 첫 요청과 같은 인스턴스로 가지 않도록 후보 목록에서 제외
+ *
+ * HedgingFilter가 exchange 속성(EXCLUDED_INSTANCE_ATTR)에 첫 요청의 인스턴스(host:port)를 넣으면
+ * 로드밸런서는 나머지 인스턴스 중에서 고릅니다.
+ * 인스턴스가 하나뿐이면 목록을 그대로 두어 같은 인스턴스의 다른 연결로 보냅니다.
+ */
+public class HedgeExclusionServiceInstanceListSupplier extends DelegatingServiceInstanceListSupplier {
+
+    public static final String EXCLUDED_INSTANCE_ATTR = HedgeExclusionServiceInstanceListSupplier.class.getName()
+            + ".excludedInstance";
+
+    public HedgeExclusionServiceInstanceListSupplier(ServiceInstanceListSupplier delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get() {
+        return delegate.get();
+    }
+
+    @Override
+    public Flux<List<ServiceInstance>> get(Request request) {
+        if (!(request.getContext() instanceof RequestDataContext context)
+                || !(context.getClientRequest().getAttributes().get(EXCLUDED_INSTANCE_ATTR) instanceof String excluded)) {
+            return delegate.get(request);
+        }
+        return delegate.get(request).map(instances -> {
+            List<ServiceInstance> others = instances.stream()
+                    .filter(instance -> !excluded.equals(key(instance)))
+                    .toList();
+            return others.isEmpty() ? instances : others;
+        });
+    }
+
+    public static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.apigateway.hedge;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 서비스별 로드밸런서 설정: 기본 구성(디스커버리 + 캐시)에 헤지 요청 인스턴스 제외만 추가
+ *
+ * @LoadBalancerClients(defaultConfiguration)로 지정되어 서비스마다 만들어지는 로드밸런서 컨텍스트에서 사용되므로
+ * @Configuration을 붙이지 않습니다 (컴포넌트 스캔으로 메인 컨텍스트에 등록되지 않도록).
+ */
+public class HedgeLoadBalancerConfiguration {
+
+    @Bean
+    public ServiceInstanceListSupplier discoveryClientServiceInstanceListSupplier(ConfigurableApplicationContext context) {
+        return ServiceInstanceListSupplier.builder()
+                .withDiscoveryClient()
+                .withCaching()
+                .with((ctx, delegate) -> new HedgeExclusionServiceInstanceListSupplier(delegate))
+                .build(context);
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.apigateway.metrics;
+
+import com.example.apigateway.auth.RejectionReason;
+import com.example.apigateway.concurrency.AdaptiveConcurrencyLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * 게이트웨이 요청 처리 단계별 지연 시간과 인증 거부 횟수
+ *
+ * 전체 응답 시간(spring.cloud.gateway.requests)만으로는 p99가 어디서 늘어나는지 알 수 없으므로
+ * 한 요청을 세 단계로 나누어 라우트별 히스토그램으로 기록합니다.
+ * - gateway.auth:         JwtAuthenticationFilter 판단 시간 (outcome = authenticated / rejected / public)
+ * - gateway.loadbalancer: lb:// 주소에서 서비스 인스턴스를 고르는 시간
+ * - gateway.upstream:     업스트림 호출부터 응답 헤더 수신까지 시간 (outcome = success / error)
+ * - gateway.auth.rejections: 거부 이유(reason)별 401 횟수
+ * - gateway.hedge.sent / gateway.hedge.won: HedgingFilter가 보낸 헤지 요청 수 / 그중 먼저 응답한 수
+ * - gateway.concurrency.limit / inflight / shed: AdaptiveConcurrencyFilter의 현재 한도, 처리 중 요청 수, 503으로 거절한 수
+ *
+ * 히스토그램/백분위 설정은 application.yml의 management.metrics.distribution에서 지정합니다.
+ * 요청마다 Meter를 조회하지 않도록 라우트별 Meter를 만들어 두고 재사용합니다.
+ */
+@Component
+public class GatewayMetrics {
+
+    public static final String AUTH_TIMER = "gateway.auth";
+    public static final String LOAD_BALANCER_TIMER = "gateway.loadbalancer";
+    public static final String UPSTREAM_TIMER = "gateway.upstream";
+    public static final String REJECTION_COUNTER = "gateway.auth.rejections";
+    public static final String HEDGE_SENT_COUNTER = "gateway.hedge.sent";
+    public static final String HEDGE_WON_COUNTER = "gateway.hedge.won";
+    public static final String CONCURRENCY_LIMIT_GAUGE = "gateway.concurrency.limit";
+    public static final String CONCURRENCY_IN_FLIGHT_GAUGE = "gateway.concurrency.inflight";
+    public static final String CONCURRENCY_SHED_COUNTER = "gateway.concurrency.shed";
+
+    // 접근 로그에서 함께 기록하도록 측정값을 exchange 속성에도 보관
+    public static final String AUTH_OUTCOME_ATTR = GatewayMetrics.class.getName() + ".authOutcome";
+    public static final String AUTH_NANOS_ATTR = GatewayMetrics.class.getName() + ".authNanos";
+    public static final String LOAD_BALANCER_NANOS_ATTR = GatewayMetrics.class.getName() + ".loadBalancerNanos";
+    public static final String UPSTREAM_NANOS_ATTR = GatewayMetrics.class.getName() + ".upstreamNanos";
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, RouteMeters> routes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AdaptiveConcurrencyLimit> concurrencyLimits = new ConcurrentHashMap<>();
+
+    public GatewayMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void recordAuthenticated(ServerWebExchange exchange, long startNanos) {
+        recordAuth(exchange, meters(exchange).authenticated, startNanos, "authenticated");
+    }
+
+    public void recordPublic(ServerWebExchange exchange, long startNanos) {
+        recordAuth(exchange, meters(exchange).publicPath, startNanos, "public");
+    }
+
+    public void recordRejected(ServerWebExchange exchange, long startNanos, RejectionReason reason) {
+        RouteMeters meters = meters(exchange);
+        recordAuth(exchange, meters.rejected, startNanos, reason.name());
+        meters.rejections.get(reason).increment();
+    }
+
+    public void recordLoadBalancer(ServerWebExchange exchange, long nanos) {
+        meters(exchange).loadBalancer.record(nanos, TimeUnit.NANOSECONDS);
+        exchange.getAttributes().put(LOAD_BALANCER_NANOS_ATTR, nanos);
+    }
+
+    public void recordUpstream(ServerWebExchange exchange, long nanos, boolean success) {
+        RouteMeters meters = meters(exchange);
+        (success ? meters.upstreamSuccess : meters.upstreamError).record(nanos, TimeUnit.NANOSECONDS);
+        exchange.getAttributes().put(UPSTREAM_NANOS_ATTR, nanos);
+    }
+
+    public void recordHedgeSent(ServerWebExchange exchange) {
+        meters(exchange).hedgeSent.increment();
+    }
+
+    public void recordHedgeWon(ServerWebExchange exchange) {
+        meters(exchange).hedgeWon.increment();
+    }
+
+    /**
+     * 라우트의 동시 요청 한도를 게이지로 노출 (라우트가 다시 만들어지면 새 한도로 교체)
+     */
+    public void registerConcurrencyLimit(String routeId, AdaptiveConcurrencyLimit limit) {
+        if (concurrencyLimits.put(routeId, limit) != null) {
+            return;
+        }
+        Gauge.builder(CONCURRENCY_LIMIT_GAUGE, concurrencyLimits, limits -> limits.get(routeId).limit())
+                .description("Current adaptive concurrency limit")
+                .tag("routeId", routeId)
+                .register(registry);
+        Gauge.builder(CONCURRENCY_IN_FLIGHT_GAUGE, concurrencyLimits, limits -> limits.get(routeId).inFlight())
+                .description("Requests currently in flight under the adaptive concurrency limit")
+                .tag("routeId", routeId)
+                .register(registry);
+    }
+
+    public void recordConcurrencyShed(ServerWebExchange exchange) {
+        meters(exchange).concurrencyShed.increment();
+    }
+
+    private void recordAuth(ServerWebExchange exchange, Timer timer, long startNanos, String outcome) {
+        long nanos = System.nanoTime() - startNanos;
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+        exchange.getAttributes().put(AUTH_NANOS_ATTR, nanos);
+        exchange.getAttributes().put(AUTH_OUTCOME_ATTR, outcome);
+    }
+
+    private RouteMeters meters(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "unknown";
+        return routes.computeIfAbsent(routeId, id -> new RouteMeters(registry, id));
+    }
+
+    private static final class RouteMeters {
+
+        private final Timer authenticated;
+        private final Timer publicPath;
+        private final Timer rejected;
+        private final Timer loadBalancer;
+        private final Timer upstreamSuccess;
+        private final Timer upstreamError;
+        private final Counter hedgeSent;
+        private final Counter hedgeWon;
+        private final Counter concurrencyShed;
+        private final Map<RejectionReason, Counter> rejections = new EnumMap<>(RejectionReason.class);
+
+        private RouteMeters(MeterRegistry registry, String routeId) {
+            this.authenticated = timer(registry, AUTH_TIMER, routeId, "authenticated");
+            this.publicPath = timer(registry, AUTH_TIMER, routeId, "public");
+            this.rejected = timer(registry, AUTH_TIMER, routeId, "rejected");
+            this.loadBalancer = Timer.builder(LOAD_BALANCER_TIMER)
+                    .description("Service instance selection time")
+                    .tag("routeId", routeId)
+                    .register(registry);
+            this.upstreamSuccess = timer(registry, UPSTREAM_TIMER, routeId, "success");
+            this.upstreamError = timer(registry, UPSTREAM_TIMER, routeId, "error");
+            this.hedgeSent = Counter.builder(HEDGE_SENT_COUNTER)
+                    .description("Hedged requests sent to a second instance")
+                    .tag("routeId", routeId)
+                    .register(registry);
+            this.hedgeWon = Counter.builder(HEDGE_WON_COUNTER)
+                    .description("Hedged requests that answered before the original request")
+                    .tag("routeId", routeId)
+                    .register(registry);
+            this.concurrencyShed = Counter.builder(CONCURRENCY_SHED_COUNTER)
+                    .description("Requests rejected with 503 above the adaptive concurrency limit")
+                    .tag("routeId", routeId)
+                    .register(registry);
+            for (RejectionReason reason : RejectionReason.values()) {
+                if (reason.isRejected()) {
+                    rejections.put(reason, Counter.builder(REJECTION_COUNTER)
+                            .description("Requests rejected by JwtAuthenticationFilter")
+                            .tag("routeId", routeId)
+                            .tag("reason", reason.name())
+                            .register(registry));
+                }
+            }
+        }
+
+        private static Timer timer(MeterRegistry registry, String name, String routeId, String outcome) {
+            return Timer.builder(name)
+                    .tag("routeId", routeId)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.apigateway.metrics;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 로드밸런서 필터 직전에 시작 시각을 기록 (측정은 UpstreamTimingFilter에서)
+ *
+ * 라우트 필터(JWT 인증, 요청 한도, 응답 캐시)는 모두 이보다 앞에서 실행되므로
+ * 이 시점부터는 인스턴스 선택과 업스트림 호출만 남습니다.
+ */
+@Component
+public class LoadBalancerTimingFilter implements GlobalFilter, Ordered {
+
+    static final String START_ATTR = LoadBalancerTimingFilter.class.getName() + ".start";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        exchange.getAttributes().put(START_ATTR, System.nanoTime());
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
+    }
+}
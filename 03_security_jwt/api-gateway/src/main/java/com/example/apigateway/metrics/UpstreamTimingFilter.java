@@ -0,0 +1,44 @@
+package com.example.apigateway.metrics;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 로드밸런서 필터 직후 실행: 인스턴스 선택 시간을 기록하고 업스트림 호출 시간을 측정
+ *
+ * 이후 체인(NettyRoutingFilter)은 업스트림 응답 헤더를 받으면 완료되고
+ * 본문은 그 뒤 NettyWriteResponseFilter가 클라이언트로 복사하므로,
+ * 여기서 재는 시간은 업스트림의 첫 응답까지 걸린 시간(TTFB)입니다.
+ */
+@Component
+public class UpstreamTimingFilter implements GlobalFilter, Ordered {
+
+    private final GatewayMetrics metrics;
+
+    public UpstreamTimingFilter(GatewayMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        Long loadBalancerStart = exchange.getAttribute(LoadBalancerTimingFilter.START_ATTR);
+        if (loadBalancerStart != null) {
+            metrics.recordLoadBalancer(exchange, start - loadBalancerStart);
+        }
+        return chain.filter(exchange)
+                .doFinally(signal -> metrics.recordUpstream(exchange, System.nanoTime() - start,
+                        signal == SignalType.ON_COMPLETE));
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+}
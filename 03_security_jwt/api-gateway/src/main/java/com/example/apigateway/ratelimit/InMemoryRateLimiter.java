@@ -0,0 +1,115 @@
+package com.example.apigateway.ratelimit;
+
+import com.example.apigateway.util.Fingerprint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis 없이 게이트웨이 메모리에서 동작하는 RequestRateLimiter 구현
+ *
+ * 기본 제공 RedisRateLimiter와 같은 RateLimiter 인터페이스를 구현하므로
+ * 라우트 설정에서 RequestRateLimiter 필터에 rate-limiter로 지정해 그대로 사용합니다.
+ * - 라우트별 설정: in-memory-rate-limiter.replenish-rate / burst-capacity / requested-tokens
+ * - 판정은 TokenBucketTable의 compareAndSet 한 번 → 이벤트 루프에서 블로킹 없음
+ * - 메모리: gateway.rate-limit.max-keys 기준 고정 (100만 키 ≒ 16MB), 키가 더 늘어도 증가하지 않음
+ *
+ * 게이트웨이 인스턴스마다 따로 세므로, 인스턴스가 N대면 실제 허용량은 최대 N배가 됩니다.
+ */
+@Component
+public class InMemoryRateLimiter extends AbstractRateLimiter<InMemoryRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "in-memory-rate-limiter";
+
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+
+    private final TokenBucketTable buckets;
+    private final Config defaultConfig;
+    private final LongAdder deniedRequests = new LongAdder();
+
+    @Autowired
+    public InMemoryRateLimiter(ConfigurationService configurationService,
+                               @Value("${gateway.rate-limit.max-keys:1000000}") int maxKeys,
+                               @Value("${gateway.rate-limit.default-replenish-rate:10}") double defaultReplenishRate,
+                               @Value("${gateway.rate-limit.default-burst-capacity:20}") long defaultBurstCapacity) {
+        this(configurationService, new TokenBucketTable(maxKeys, System::nanoTime),
+                new Config().setReplenishRate(defaultReplenishRate).setBurstCapacity(defaultBurstCapacity));
+    }
+
+    InMemoryRateLimiter(ConfigurationService configurationService, TokenBucketTable buckets, Config defaultConfig) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.buckets = buckets;
+        this.defaultConfig = defaultConfig;
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        long fingerprint = Fingerprint.combine(Fingerprint.of(routeId), Fingerprint.of(id));
+        long remaining = buckets.tryAcquire(fingerprint, config.getReplenishRate(),
+                config.getBurstCapacity(), config.getRequestedTokens());
+        boolean allowed = remaining >= 0;
+        if (!allowed) {
+            deniedRequests.increment();
+        }
+        return Mono.just(new Response(allowed, headers(config, Math.max(remaining, 0))));
+    }
+
+    private static Map<String, String> headers(Config config, long remaining) {
+        return Map.of(
+                REMAINING_HEADER, Long.toString(remaining),
+                REPLENISH_RATE_HEADER, Double.toString(config.getReplenishRate()),
+                BURST_CAPACITY_HEADER, Long.toString(config.getBurstCapacity()));
+    }
+
+    /**
+     * 한도를 넘어 거부된 요청 수
+     */
+    public long deniedRequests() {
+        return deniedRequests.sum();
+    }
+
+    public static class Config {
+        // 초당 충전되는 토큰 수 (평균 허용 요청 수)
+        private double replenishRate = 10;
+        // 버킷 최대 토큰 수 (순간적으로 허용하는 최대 요청 수)
+        private long burstCapacity = 20;
+        // 요청 한 번에 소비하는 토큰 수
+        private long requestedTokens = 1;
+
+        public double getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(double replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public long getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(long burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        public long getRequestedTokens() {
+            return requestedTokens;
+        }
+
+        public Config setRequestedTokens(long requestedTokens) {
+            this.requestedTokens = requestedTokens;
+            return this;
+        }
+    }
+}
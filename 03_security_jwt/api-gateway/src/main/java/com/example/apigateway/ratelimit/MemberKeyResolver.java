@@ -0,0 +1,33 @@
+package com.example.apigateway.ratelimit;
+
+import com.example.apigateway.filter.JwtAuthenticationFilter;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * 요청 한도를 셀 기준(키) 결정
+ *
+ * JwtAuthenticationFilter가 토큰 검증에 성공한 요청은 회원 ID 기준,
+ * 인증이 없는 요청(로그인, 공개 경로)은 클라이언트 IP 기준으로 셉니다.
+ * 클라이언트가 보낸 X-USER-ID 헤더는 위조할 수 있으므로 사용하지 않습니다.
+ */
+@Component
+public class MemberKeyResolver implements KeyResolver {
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        String memberId = exchange.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_MEMBER_ATTR);
+        if (memberId != null) {
+            return Mono.just("member:" + memberId);
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        if (remoteAddress != null && remoteAddress.getAddress() != null) {
+            return Mono.just("ip:" + remoteAddress.getAddress().getHostAddress());
+        }
+        return Mono.just("ip:unknown");
+    }
+}
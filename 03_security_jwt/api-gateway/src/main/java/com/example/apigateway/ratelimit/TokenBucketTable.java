@@ -0,0 +1,104 @@
+package com.example.apigateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 고정 크기, 잠금 없는(lock-free) 토큰 버킷 테이블
+ *
+ * 키마다 객체를 만들지 않고 long 하나(8바이트)에 버킷 상태 전체를 담습니다.
+ * 토큰 수와 마지막 충전 시각 대신 GCRA(Generic Cell Rate Algorithm)의 "다음 토큰이 충전 완료되는 시각(TAT)"
+ * 하나만 저장하면 토큰 버킷과 같은 결과를 얻을 수 있기 때문입니다.
+ *
+ * 슬롯 구성: [태그 20비트 | TAT 44비트 (약 16µs 단위, 프로세스 시작 기준)]
+ * - 태그는 키 지문의 상위 비트, 인덱스는 하위 비트 → 다른 키와 섞일 확률은 약 100만분의 1 수준
+ * - 슬롯 하나를 compareAndSet 한 번으로 갱신하므로 이벤트 루프 스레드에서 잠금이나 대기 없이 동작
+ * - TAT가 현재 시각보다 과거인 슬롯은 버킷이 가득 찬 상태 = 새 키와 같으므로 다른 키가 재사용 (유휴 키 자동 만료)
+ * - 탐색 범위의 슬롯이 모두 사용 중이면 가장 먼저 유휴 상태가 될 슬롯을 덮어씀 → 키가 아무리 많아도 메모리는 고정
+ */
+final class TokenBucketTable {
+
+    private static final int TAG_BITS = 20;
+    private static final int TIME_BITS = 64 - TAG_BITS;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final int TIME_UNIT_SHIFT = 14; // 2^14 ns ≒ 16.4µs
+    private static final int MAX_PROBES = 8;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final LongSupplier nanoClock;
+    private final long baseNanos;
+
+    TokenBucketTable(int maxKeys, LongSupplier nanoClock) {
+        int capacity = Integer.highestOneBit(Math.max(16, maxKeys * 2 - 1)) << 1;
+        this.slots = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.nanoClock = nanoClock;
+        this.baseNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * fingerprint 키의 버킷에서 토큰 requested개를 꺼냄
+     *
+     * @param replenishRate 초당 충전되는 토큰 수
+     * @param burstCapacity 버킷 최대 토큰 수
+     * @return 꺼낸 뒤 남은 토큰 수, 토큰이 부족하면 -1
+     */
+    long tryAcquire(long fingerprint, double replenishRate, long burstCapacity, long requested) {
+        // 시간 단위로 나누어 떨어지지 않는 간격은 내림 (허용량이 아주 약간 늘어나는 쪽으로 오차)
+        long interval = Math.max(1, (long) (1_000_000_000.0 / replenishRate / (1L << TIME_UNIT_SHIFT)));
+        long capacity = interval * burstCapacity;
+        long cost = interval * requested;
+        long tag = tagOf(fingerprint);
+        int start = (int) fingerprint & mask;
+
+        while (true) {
+            long now = now();
+            int target = -1;
+            long targetSlot = 0;
+            long oldestTat = Long.MAX_VALUE;
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                int index = (start + probe) & mask;
+                long slot = slots.get(index);
+                if (slot != 0 && slot >>> TIME_BITS == tag) {
+                    target = index;
+                    targetSlot = slot;
+                    break;
+                }
+                long tat = slot & TIME_MASK;
+                // 빈 슬롯 또는 유휴 슬롯을 우선, 없으면 가장 먼저 비워질 슬롯
+                long rank = slot == 0 || tat <= now ? Long.MIN_VALUE : tat;
+                if (rank < oldestTat) {
+                    oldestTat = rank;
+                    target = index;
+                    targetSlot = slot;
+                }
+            }
+
+            boolean owned = targetSlot != 0 && targetSlot >>> TIME_BITS == tag;
+            long tat = owned ? Math.max(targetSlot & TIME_MASK, now) : now;
+            long newTat = tat + cost;
+            if (newTat - now > capacity) {
+                return -1;
+            }
+            if (slots.compareAndSet(target, targetSlot, (tag << TIME_BITS) | newTat)) {
+                return (capacity - (newTat - now)) / interval;
+            }
+            // 다른 요청이 먼저 갱신함: 최신 상태로 다시 계산
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    private long now() {
+        // 0은 빈 슬롯 표시와 겹치지 않도록 1부터 시작
+        return ((nanoClock.getAsLong() - baseNanos) >>> TIME_UNIT_SHIFT) + 1;
+    }
+
+    private static long tagOf(long fingerprint) {
+        long tag = fingerprint >>> TIME_BITS;
+        return tag == 0 ? 1 : tag;
+    }
+}
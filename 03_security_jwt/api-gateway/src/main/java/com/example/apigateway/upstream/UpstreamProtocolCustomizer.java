@@ -0,0 +1,54 @@
+package com.example.apigateway.upstream;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.stereotype.Component;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.Locale;
+
+/**
+ * 게이트웨이 → 서비스 호출(NettyRoutingFilter)에 사용하는 HTTP 클라이언트의 프로토콜 설정
+ *
+ * 연결 풀 크기, 유휴 연결 정리, 풀 메트릭은 spring.cloud.gateway.httpclient.pool.*에서 지정하고,
+ * 여기서는 풀이 만든 연결을 HTTP/1.1로 쓸지 h2c(평문 HTTP/2)로 쓸지를 정합니다.
+ * - http1: 연결 하나에 요청 하나씩 → 동시 요청 수만큼 인스턴스별 연결이 늘어남 (기본값)
+ * - h2c:   연결 하나에 여러 요청을 동시에 실어 보냄 (prior knowledge 방식, 업그레이드 왕복 없음)
+ *          → 인스턴스별 연결 몇 개로 처리, 대상 서비스에 server.http2.enabled=true 필요
+ *
+ * 두 방식 모두 TCP keep-alive를 켜서 방화벽/NAT가 조용히 끊은 유휴 연결을 빨리 발견합니다.
+ */
+@Component
+public class UpstreamProtocolCustomizer implements HttpClientCustomizer {
+
+    private final UpstreamProtocol protocol;
+    private final boolean tcpKeepAlive;
+
+    public UpstreamProtocolCustomizer(@Value("${gateway.upstream.protocol:http1}") String protocol,
+                                      @Value("${gateway.upstream.tcp-keep-alive:true}") boolean tcpKeepAlive) {
+        this.protocol = UpstreamProtocol.valueOf(protocol.toUpperCase(Locale.ROOT));
+        this.tcpKeepAlive = tcpKeepAlive;
+    }
+
+    @Override
+    public HttpClient customize(HttpClient httpClient) {
+        HttpClient client = httpClient
+                .keepAlive(true)
+                .option(ChannelOption.SO_KEEPALIVE, tcpKeepAlive);
+        return switch (protocol) {
+            case HTTP1 -> client.protocol(HttpProtocol.HTTP11);
+            case H2C -> client.protocol(HttpProtocol.H2C);
+        };
+    }
+
+    public UpstreamProtocol protocol() {
+        return protocol;
+    }
+
+    public enum UpstreamProtocol {
+        HTTP1,
+        H2C
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.apigateway.util;
+
+/**
+ * 문자열 → 64비트 지문 (원본 문자열을 보관하지 않는 고정 크기 테이블의 키로 사용)
+ *
+ * FNV-1a로 누적한 뒤 비트를 섞어 하위 비트(테이블 인덱스)와 상위 비트(태그)가 고르게 분포하도록 합니다.
+ */
+public final class Fingerprint {
+
+    private Fingerprint() {
+    }
+
+    public static long of(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash ^= c & 0xff;
+            hash *= 0x100000001b3L;
+            hash ^= c >>> 8;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * 두 지문을 하나로 합침 (예: 라우트 ID + 사용자 키)
+     */
+    public static long combine(long first, long second) {
+        return mix(first * 0x9e3779b97f4a7c15L + second);
+    }
+
+    public static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
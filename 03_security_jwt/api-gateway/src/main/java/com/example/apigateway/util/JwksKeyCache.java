@@ -0,0 +1,152 @@
+package com.example.apigateway.util;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SignatureException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 비대칭 키 모드(jwt.mode=asymmetric)의 공개키 캐시
+ *
+ * Member Service의 JWKS 엔드포인트에서 공개키를 받아 파싱된 PublicKey로 메모리에 보관합니다.
+ * - 토큰 검증은 항상 메모리의 공개키로만 수행 (요청당 원격 호출 없음)
+ * - 처음 보는 kid가 나타나면(키 교체 직후) 한 번 다시 조회
+ * - 잘못된 kid가 담긴 토큰이 몰려도 jwt.jwks.min-refresh-interval 간격보다 자주 조회하지 않음
+ * - 조회 결과는 기존 목록에 합침: 로드밸런싱으로 매번 다른 인스턴스가 응답하거나 키가 교체되어도
+ *   한 번 받은 kid는 마지막으로 본 뒤 jwt.jwks.key-retention 동안 유지 (그 사이 발급된 토큰이 계속 검증됨)
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.mode", havingValue = "asymmetric")
+public class JwksKeyCache extends LocatorAdapter<Key> {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksKeyCache.class);
+
+    private final WebClient webClient;
+    private final String jwksUri;
+    private final long minRefreshIntervalMillis;
+    private final Duration timeout;
+    private final long keyRetentionMillis;
+    private final LongSupplier clock;
+
+    private volatile Map<String, KnownKey> keys = Map.of();
+    private volatile long lastRefreshMillis;
+    private final AtomicReference<Mono<Void>> inFlight = new AtomicReference<>();
+
+    @Autowired
+    public JwksKeyCache(ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction,
+                        @Value("${jwt.jwks.uri:http://member-service/.well-known/jwks.json}") String jwksUri,
+                        @Value("${jwt.jwks.min-refresh-interval:PT30S}") Duration minRefreshInterval,
+                        @Value("${jwt.jwks.timeout:PT3S}") Duration timeout,
+                        @Value("${jwt.jwks.key-retention:PT2H}") Duration keyRetention) {
+        this(loadBalancerFunction, jwksUri, minRefreshInterval, timeout, keyRetention, System::currentTimeMillis);
+    }
+
+    JwksKeyCache(ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction, String jwksUri,
+                 Duration minRefreshInterval, Duration timeout, Duration keyRetention, LongSupplier clock) {
+        this.webClient = WebClient.builder().filter(loadBalancerFunction).build();
+        this.jwksUri = jwksUri;
+        this.minRefreshIntervalMillis = minRefreshInterval.toMillis();
+        this.timeout = timeout;
+        this.keyRetentionMillis = keyRetention.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * 시작 직후 미리 한 번 받아 둠 (실패해도 첫 토큰 검증 시 다시 시도)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        refresh().subscribe();
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        KnownKey key = kid != null ? keys.get(kid) : null;
+        if (key == null) {
+            if (kid == null) {
+                throw new SignatureException("JWT without 'kid' cannot be verified in asymmetric mode");
+            }
+            throw new UnknownKeyIdException(kid);
+        }
+        return key.publicKey();
+    }
+
+    /**
+     * JWKS를 다시 조회해 공개키 목록에 합침
+     * 동시에 여러 번 호출되어도 실제 조회는 한 번만 수행하며, 최소 간격 안에서는 아무것도 하지 않습니다.
+     */
+    public Mono<Void> refresh() {
+        Mono<Void> running = inFlight.get();
+        if (running != null) {
+            return running;
+        }
+        long now = clock.getAsLong();
+        if (lastRefreshMillis != 0 && now - lastRefreshMillis < minRefreshIntervalMillis) {
+            return Mono.empty();
+        }
+        Mono<Void> fetch = webClient.get()
+                .uri(jwksUri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(timeout)
+                .doOnNext(this::load)
+                .doOnError(e -> log.warn("JWKS refresh from {} failed: {}", jwksUri, e.getMessage()))
+                .onErrorResume(e -> Mono.empty())
+                .then()
+                .doFinally(signal -> inFlight.set(null))
+                .cache();
+        if (!inFlight.compareAndSet(null, fetch)) {
+            Mono<Void> other = inFlight.get();
+            return other != null ? other : Mono.empty();
+        }
+        lastRefreshMillis = now;
+        return fetch;
+    }
+
+    /**
+     * 받은 kid는 추가(또는 마지막으로 본 시각 갱신)하고, key-retention 동안 다시 보이지 않은 kid만 제거
+     * (refresh는 한 번에 하나만 실행되므로 여기서는 경쟁 없이 교체)
+     */
+    void load(String json) {
+        JwkSet jwkSet = Jwks.setParser().build().parse(json);
+        long now = clock.getAsLong();
+        Map<String, KnownKey> merged = new HashMap<>();
+        keys.forEach((kid, key) -> {
+            if (now - key.lastSeenMillis() < keyRetentionMillis) {
+                merged.put(kid, key);
+            }
+        });
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (jwk.getId() != null && jwk.toKey() instanceof PublicKey publicKey) {
+                merged.put(jwk.getId(), new KnownKey(publicKey, now));
+            }
+        }
+        this.keys = Map.copyOf(merged);
+        log.info("JWKS loaded: kids={}", merged.keySet());
+    }
+
+    private record KnownKey(PublicKey publicKey, long lastSeenMillis) {
+    }
+}
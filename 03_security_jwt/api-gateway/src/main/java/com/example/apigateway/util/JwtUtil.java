@@ -1,28 +1,56 @@
 package com.example.apigateway.util;
 
+import com.example.apigateway.auth.VerifiedToken;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
-import javax.crypto.SecretKey;
+import java.security.Key;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    // 파서는 시작 시 한 번만 생성하고, 검증 키는 토큰의 kid로 선택
+    // (HMAC 모드: JwtKeyRing, 비대칭 키 모드: JWKS에서 받아 둔 공개키)
+    private final JwtParser parser;
+    private final JwksKeyCache jwksKeyCache;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    public JwtUtil(JwtKeyRing keyRing) {
+        this(keyRing, (JwksKeyCache) null);
+    }
+
+    @Autowired
+    public JwtUtil(JwtKeyRing keyRing, ObjectProvider<JwksKeyCache> jwksKeyCache) {
+        this(keyRing, jwksKeyCache.getIfAvailable());
+    }
+
+    private JwtUtil(JwtKeyRing keyRing, JwksKeyCache jwksKeyCache) {
+        Locator<Key> keyLocator = jwksKeyCache != null ? jwksKeyCache : keyRing;
+        this.jwksKeyCache = jwksKeyCache;
+        this.parser = Jwts.parser()
+                .keyLocator(keyLocator)
+                .build();
     }
 
     public Claims parseClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 서명 검증과 파싱을 한 번만 수행하고 필요한 값을 한꺼번에 반환
+     * 검증 실패 시 JwtException 또는 IllegalArgumentException이 발생합니다.
+     */
+    public VerifiedToken verify(String token) {
+        return VerifiedToken.from(parseClaims(token));
+    }
+
+    /**
+     * 처음 보는 kid의 토큰을 만났을 때 검증 키 목록 갱신 (HMAC 모드에서는 아무것도 하지 않음)
+     */
+    public Mono<Void> refreshKeys() {
+        return jwksKeyCache != null ? jwksKeyCache.refresh() : Mono.empty();
     }
 
     public boolean validateToken(String token) {
@@ -0,0 +1,14 @@
+package com.example.apigateway.util;
+
+import io.jsonwebtoken.security.SignatureException;
+
+/**
+ * 토큰 헤더의 kid에 해당하는 검증 키를 찾지 못했을 때 발생
+ * 비대칭 키 모드에서는 공개키 목록(JWKS)을 갱신한 뒤 한 번 더 검증할 수 있습니다.
+ */
+public class UnknownKeyIdException extends SignatureException {
+
+    public UnknownKeyIdException(String kid) {
+        super("Unknown JWT key id: " + kid);
+    }
+}
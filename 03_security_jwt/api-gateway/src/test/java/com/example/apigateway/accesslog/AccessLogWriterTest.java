@@ -0,0 +1,73 @@
+package com.example.apigateway.accesslog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogWriterTest {
+
+    @TempDir
+    Path dir;
+
+    private static AccessLogRecord record(String path, long upstreamNanos) {
+        return new AccessLogRecord(0, "GET", path, "board-service", "10.0.0.7:8082", 200, 42,
+                "authenticated", 1_500_000, 20_000, 3_000, upstreamNanos);
+    }
+
+    @Test
+    void writesOneJsonLinePerRecord() throws Exception {
+        Path file = dir.resolve("logs/access.log");
+        AccessLogWriter writer = new AccessLogWriter(true, file.toString(), 64, DataSize.ofBytes(256), Duration.ofMillis(10));
+        writer.start();
+        for (int i = 0; i < 20; i++) {
+            writer.append(record("/boards/" + i, -1));
+        }
+        writer.append(record("/boards/\"quoted\"", 900_000));
+        writer.stop();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(21, lines.size());
+        assertEquals("{\"ts\":\"1970-01-01T00:00:00Z\",\"method\":\"GET\",\"path\":\"/boards/0\",\"route\":\"board-service\","
+                + "\"instance\":\"10.0.0.7:8082\",\"status\":200,\"bytes\":42,\"auth\":\"authenticated\","
+                + "\"total_us\":1500,\"auth_us\":20,\"lb_us\":3}", lines.get(0));
+        assertTrue(lines.get(20).contains("\"path\":\"/boards/\\\"quoted\\\"\""));
+        assertTrue(lines.get(20).endsWith("\"upstream_us\":900}"));
+        assertEquals(21, writer.writtenRecords());
+        assertEquals(0, writer.droppedRecords());
+    }
+
+    @Test
+    void fullBufferDropsInsteadOfBlocking() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, buffer.poll());
+        }
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    void disabledWriterIgnoresRecords() throws Exception {
+        Path file = dir.resolve("access.log");
+        AccessLogWriter writer = new AccessLogWriter(false, file.toString(), 64, DataSize.ofKilobytes(1), Duration.ofSeconds(1));
+        writer.start();
+        writer.append(record("/boards/1", -1));
+        writer.stop();
+
+        assertFalse(Files.exists(file));
+        assertEquals(0, writer.writtenRecords());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.apigateway.auth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityAssertionSignerTest {
+
+    private static final String SECRET = "internal-identity-secret-0123456789abcdef";
+
+    @Test
+    void signsMemberRoleAndExpiry() {
+        IdentityAssertionSigner signer = new IdentityAssertionSigner(SECRET, Duration.ofSeconds(30), () -> 1_700_000_000_000L);
+
+        // board-service / member-service의 IdentityAssertionTest가 같은 값을 검증 (형식이 바뀌면 함께 수정)
+        assertEquals("v1.dGVzdHVzZXI.VVNFUg.1700000030.MZ2TsrlBYiUU5OsafRMkpRJIQPg_sUUyRS0NicZEz8s",
+                signer.sign("testuser", "USER"));
+    }
+
+    @Test
+    void rejectsShortSecret() {
+        assertThrows(IllegalArgumentException.class, () -> new IdentityAssertionSigner("short", Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void clientSuppliedIdentityHeadersAreRemoved() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/members/login")
+                .header("X-USER-ID", "admin")
+                .header("x-user-role", "ADMIN")
+                .header(IdentityAssertionSigner.HEADER, "v1.forged")
+                .header(HttpHeaders.CONTENT_TYPE, "application/json"));
+        HttpHeaders[] forwarded = new HttpHeaders[1];
+        GatewayFilterChain chain = next -> {
+            forwarded[0] = next.getRequest().getHeaders();
+            return Mono.empty();
+        };
+
+        new UntrustedIdentityHeaderFilter().filter(exchange, chain).block();
+
+        assertNull(forwarded[0].getFirst("X-USER-ID"));
+        assertNull(forwarded[0].getFirst("X-USER-ROLE"));
+        assertNull(forwarded[0].getFirst(IdentityAssertionSigner.HEADER));
+        assertEquals("application/json", forwarded[0].getFirst(HttpHeaders.CONTENT_TYPE));
+    }
+}
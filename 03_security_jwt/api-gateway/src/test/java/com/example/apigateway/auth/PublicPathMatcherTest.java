@@ -0,0 +1,56 @@
+package com.example.apigateway.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublicPathMatcherTest {
+
+    @Test
+    void matchesWholePathsOnly() {
+        PublicPathMatcher matcher = PublicPathMatcher.compile(List.of("/members/register", "/members/health"));
+
+        assertTrue(matcher.matches("/members/register"));
+        assertTrue(matcher.matches("/members/health/"));
+        assertFalse(matcher.matches("/members/1"));
+        assertFalse(matcher.matches("/boards/login-history"));
+        assertFalse(matcher.matches("/members/health-report"));
+        assertFalse(matcher.matches("/admin/members/register"));
+    }
+
+    @Test
+    void supportsSingleSegmentAndTrailingWildcards() {
+        PublicPathMatcher matcher = PublicPathMatcher.compile(List.of("/boards/*/preview", "/docs/**"));
+
+        assertTrue(matcher.matches("/boards/42/preview"));
+        assertFalse(matcher.matches("/boards/42/comments"));
+        assertFalse(matcher.matches("/boards//preview"));
+        assertTrue(matcher.matches("/docs"));
+        assertTrue(matcher.matches("/docs/api/v1"));
+        assertFalse(matcher.matches("/documents"));
+    }
+
+    @Test
+    void dotSegmentsNeverMatch() {
+        // 업스트림이 정규화하면 보호된 경로(/boards/1, /members/1)가 됨
+        PublicPathMatcher matcher = PublicPathMatcher.compile(List.of("/boards/public/**", "/boards/*/preview", "/members/health"));
+
+        assertFalse(matcher.matches("/boards/public/../1"));
+        assertFalse(matcher.matches("/boards/public/x/../../1"));
+        assertFalse(matcher.matches("/boards/public/..;/1"));
+        assertFalse(matcher.matches("/boards/public/%2e%2e/1"));
+        assertFalse(matcher.matches("/boards/public/.%2E/1"));
+        assertFalse(matcher.matches("/boards/../preview"));
+        assertFalse(matcher.matches("/members/./health"));
+        assertTrue(matcher.matches("/boards/public/v1.2/notice.txt"));
+        assertTrue(matcher.matches("/boards/public/..hidden"));
+    }
+
+    @Test
+    void emptyConfigurationMatchesNothing() {
+        assertFalse(PublicPathMatcher.compile(List.of()).matches("/boards"));
+        assertFalse(PublicPathMatcher.compile(null).matches("/boards"));
+    }
+}
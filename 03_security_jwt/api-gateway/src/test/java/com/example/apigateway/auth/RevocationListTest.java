@@ -0,0 +1,86 @@
+package com.example.apigateway.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevocationListTest {
+
+    @Test
+    void revokedTokensAreRejectedAndOthersPass() {
+        RevocationList list = new RevocationList(100_000, 0.001, Duration.ofMinutes(1));
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < 5000; i++) {
+            list.add("revoked-" + i, expiresAt);
+        }
+
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(list.isRevoked("revoked-" + i));
+            assertFalse(list.isRevoked("active-" + i));
+        }
+        assertEquals(5000, list.size());
+    }
+
+    @Test
+    void expiredEntriesArePurged() {
+        RevocationList list = new RevocationList(100_000, 0.001, Duration.ofMinutes(1));
+        long now = System.currentTimeMillis();
+        list.add("short", now + 1_000);
+        list.add("long", now + 60_000);
+
+        list.purgeExpired(now + 2_000);
+
+        assertEquals(1, list.size());
+        assertTrue(list.isRevoked("long"));
+    }
+
+    @Test
+    void purgeRunsAtMostOncePerInterval() {
+        RevocationList list = new RevocationList(100_000, 0.001, Duration.ofMinutes(1));
+        long now = System.currentTimeMillis();
+        list.add("a", now + 1_000);
+        list.add("b", now + 3_000);
+        list.add("c", now + 60_000);
+
+        list.purgeExpired(now + 2_000);
+        list.purgeExpired(now + 4_000);  // 1분 안에는 다시 훑지 않음
+        assertEquals(2, list.size());
+
+        list.purgeExpired(now + 2_000 + 60_000);
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void fullListEvictsSoonestExpiringInsteadOfDroppingNewRevocation() {
+        RevocationList list = new RevocationList(2, 0.001, Duration.ofMinutes(1));
+        long now = System.currentTimeMillis();
+        list.add("soon", now + 10_000);
+        list.add("late", now + 60_000);
+        list.add("new", now + 30_000);
+
+        assertTrue(list.isRevoked("new"));
+        assertTrue(list.isRevoked("late"));
+        assertFalse(list.isRevoked("soon"));
+        assertEquals(1, list.evictedEntries());
+    }
+
+    @Test
+    void revocationsSharingTheCutoffSecondAreEvictedOnlyByCount() {
+        // 일괄 로그아웃: exp가 초 단위라 모든 폐기의 만료 시각이 같음
+        RevocationList list = new RevocationList(1000, 0.001, Duration.ofMinutes(1));
+        long expiresAt = (System.currentTimeMillis() / 1000 + 60) * 1000;
+        for (int i = 0; i < 1000; i++) {
+            list.add("mass-" + i, expiresAt);
+        }
+        list.add("new", expiresAt + 1000);
+
+        assertEquals(10, list.evictedEntries());
+        assertEquals(991, list.size());
+        assertTrue(list.isRevoked("new"));
+        long stillRevoked = IntStream.range(0, 1000).filter(i -> list.isRevoked("mass-" + i)).count();
+        assertEquals(990, stillRevoked);
+    }
+}
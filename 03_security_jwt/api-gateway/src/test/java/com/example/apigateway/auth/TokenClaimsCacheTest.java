@@ -0,0 +1,61 @@
+package com.example.apigateway.auth;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenClaimsCacheTest {
+
+    @Test
+    void verifiesOnceAndServesRepeatedTokenFromCache() {
+        TokenClaimsCache cache = new TokenClaimsCache(true, 100, Duration.ofHours(1));
+        AtomicInteger verifications = new AtomicInteger();
+        VerifiedToken token = new VerifiedToken("jti-1", "testuser", "USER", "access", System.currentTimeMillis() + 60_000);
+
+        for (int i = 0; i < 5; i++) {
+            VerifiedToken result = cache.get("a.b.c", t -> {
+                verifications.incrementAndGet();
+                return token;
+            });
+            assertEquals("testuser", result.memberId());
+        }
+
+        assertEquals(1, verifications.get());
+        assertEquals(4, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void doesNotCacheFailedVerification() {
+        TokenClaimsCache cache = new TokenClaimsCache(true, 100, Duration.ofHours(1));
+
+        assertThrows(JwtException.class, () -> cache.get("bad.token.sig", t -> {
+            throw new JwtException("invalid signature");
+        }));
+
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    void expiredResultIsNotCached() {
+        TokenClaimsCache cache = new TokenClaimsCache(true, 100, Duration.ofHours(1));
+        AtomicInteger verifications = new AtomicInteger();
+        VerifiedToken expired = new VerifiedToken("jti-1", "testuser", "USER", "access", System.currentTimeMillis() - 1);
+
+        cache.get("a.b.c", t -> {
+            verifications.incrementAndGet();
+            return expired;
+        });
+        cache.get("a.b.c", t -> {
+            verifications.incrementAndGet();
+            return expired;
+        });
+
+        assertEquals(2, verifications.get());
+        assertEquals(0, cache.estimatedSize());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.apigateway.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenPrecheckerTest {
+
+    private static final SecretKey KEY =
+            Keys.hmacShaKeyFor("mySecretKey123456789012345678901234567890".getBytes(StandardCharsets.UTF_8));
+
+    private final TokenPrechecker prechecker = new TokenPrechecker(4096, Duration.ZERO);
+
+    @Test
+    void acceptsWellFormedUnexpiredToken() {
+        assertEquals(RejectionReason.NONE, prechecker.check(token(60_000)));
+    }
+
+    @Test
+    void rejectsExpiredTokenBeforeSignatureCheck() {
+        assertEquals(RejectionReason.EXPIRED, prechecker.check(token(-60_000)));
+    }
+
+    @Test
+    void rejectsStructurallyInvalidTokens() {
+        String valid = token(60_000);
+
+        assertEquals(RejectionReason.BAD_LENGTH, prechecker.check(""));
+        assertEquals(RejectionReason.BAD_LENGTH, prechecker.check("a".repeat(4097)));
+        assertEquals(RejectionReason.MALFORMED, prechecker.check(valid.substring(0, valid.lastIndexOf('.'))));
+        assertEquals(RejectionReason.MALFORMED, prechecker.check(valid.substring(0, valid.lastIndexOf('.') + 1)));
+        assertEquals(RejectionReason.MALFORMED, prechecker.check(valid + ".extra"));
+        assertEquals(RejectionReason.MALFORMED, prechecker.check("abc.def.ghi"));
+        assertEquals(RejectionReason.BAD_ENCODING, prechecker.check("not-a-jwt at all!"));
+        assertEquals(RejectionReason.BAD_ENCODING, prechecker.check(valid.replace('-', '+')
+                .replace('_', '/') + "=="));
+    }
+
+    @Test
+    void onlyTopLevelExpIsChecked() {
+        String token = Jwts.builder()
+                .subject("testuser")
+                .claim("meta", Map.of("exp", 1))
+                .claim("note", "\"exp\":1")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(KEY)
+                .compact();
+
+        assertEquals(RejectionReason.NONE, prechecker.check(token));
+    }
+
+    @Test
+    void hugeExpDoesNotOverflowIntoThePast() {
+        assertEquals(RejectionReason.NONE, prechecker.check(unsigned("{\"sub\":\"x\",\"exp\":922337203685477580}")));
+        assertEquals(RejectionReason.NONE, prechecker.check(unsigned("{\"exp\" : 99999999999999999999999}")));
+        assertEquals(RejectionReason.EXPIRED, prechecker.check(unsigned("{\"exp\" : 1000}")));
+    }
+
+    private static String unsigned(String payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".c2ln";
+    }
+
+    private static String token(long expiresInMillis) {
+        return Jwts.builder()
+                .subject("testuser")
+                .claim("role", "USER")
+                .claim("type", "access")
+                .expiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .signWith(KEY)
+                .compact();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.apigateway.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 동시 처리 수가 정해진 업스트림 앞에 한도를 두고 1ms 단위 가상 시계로 돌려,
+ * 한도가 업스트림을 놀리지 않으면서(사용률) 업스트림 대기열도 키우지 않는지(대기 요청 수) 확인
+ * (요청은 항상 한도보다 많이 들어오고, 한도를 넘는 요청은 바로 거절되는 포화 상태)
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SERVICE_TIME = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    @Test
+    void limitKeepsUpstreamBusyWithoutQueueing() {
+        long[] clock = {0};
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 1, 1000, 1.5, 0.9, () -> clock[0]);
+        Upstream upstream = new Upstream(limit, 40, clock);
+
+        // 처리 능력 대부분을 쓰면서 대기 요청은 처리 능력보다 적게 (대기 시간 < 처리 시간)
+        Load full = upstream.run(30);
+        assertTrue(full.utilization() > 0.9, "capacity 40: " + full);
+        assertTrue(full.meanQueued() < 40, "capacity 40: " + full);
+
+        // 인스턴스 절반이 빠짐: 한도가 따라 줄어 대기열이 처리 능력을 넘지 않음
+        upstream.capacity = 20;
+        Load half = upstream.run(30);
+        assertTrue(half.utilization() > 0.9, "capacity 20: " + half);
+        assertTrue(half.meanQueued() < 20, "capacity 20: " + half);
+
+        // 다시 늘어남: 한도가 회복되어 늘어난 처리 능력을 씀
+        upstream.capacity = 80;
+        Load doubled = upstream.run(30);
+        assertTrue(doubled.utilization() > 0.9, "capacity 80: " + doubled);
+        assertTrue(doubled.meanQueued() < 80, "capacity 80: " + doubled);
+    }
+
+    @Test
+    void errorsBackOffMultiplicatively() {
+        long[] clock = {0};
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, 5, 1000, 1.5, 0.9, () -> clock[0]);
+        // 구간(100ms)마다 한 번만 줄어듦: 같은 구간 안의 오류 여러 건은 한 번으로 취급
+        for (int window = 1; window <= 10; window++) {
+            clock[0] = TimeUnit.MILLISECONDS.toNanos(100) * window;
+            for (int i = 0; i < 5; i++) {
+                assertTrue(limit.tryAcquire());
+                limit.release(SERVICE_TIME, true);
+            }
+        }
+        assertEquals(34, limit.limit());
+        for (int window = 11; window <= 100; window++) {
+            clock[0] = TimeUnit.MILLISECONDS.toNanos(100) * window;
+            limit.tryAcquire();
+            limit.release(SERVICE_TIME, true);
+        }
+        assertEquals(5, limit.limit());
+    }
+
+    @Test
+    void requestsAboveLimitAreRejectedImmediately() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(3, 1, 10, 1.5, 0.9);
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        limit.release();
+        assertTrue(limit.tryAcquire());
+        assertEquals(3, limit.inFlight());
+    }
+
+    /**
+     * 동시에 capacity개까지 처리하고 나머지는 도착 순서대로 기다리는 업스트림
+     */
+    private final class Upstream {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final long[] clock;
+        // 처리 중인 요청 {끝나는 시각, 한도를 통과한 시각}
+        private final PriorityQueue<long[]> running = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        private final ArrayDeque<Long> queued = new ArrayDeque<>();
+        private int capacity;
+
+        private Upstream(AdaptiveConcurrencyLimit limit, int capacity, long[] clock) {
+            this.limit = limit;
+            this.capacity = capacity;
+            this.clock = clock;
+        }
+
+        /**
+         * 마지막 1/3 구간(한도가 자리 잡은 뒤)의 평균 사용률과 평균 대기 요청 수
+         */
+        Load run(int seconds) {
+            long ticks = TimeUnit.SECONDS.toNanos(seconds) / TICK;
+            long busy = 0;
+            long waiting = 0;
+            long measured = 0;
+            for (long tick = 0; tick < ticks; tick++) {
+                long now = clock[0] += TICK;
+                while (!running.isEmpty() && running.peek()[0] <= now) {
+                    limit.release(now - running.poll()[1], false);
+                }
+                while (running.size() < capacity && !queued.isEmpty()) {
+                    start(queued.poll(), now);
+                }
+                while (limit.tryAcquire()) {
+                    if (running.size() < capacity) {
+                        start(now, now);
+                    } else {
+                        queued.add(now);
+                    }
+                }
+                if (tick >= ticks * 2 / 3) {
+                    busy += running.size();
+                    waiting += queued.size();
+                    measured++;
+                }
+            }
+            return new Load((double) busy / measured / capacity, (double) waiting / measured);
+        }
+
+        private void start(long admittedAt, long now) {
+            running.add(new long[]{now + SERVICE_TIME + random.nextLong(SERVICE_TIME / 5), admittedAt});
+        }
+    }
+
+    private record Load(double utilization, double meanQueued) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.apigateway.filter;
+
+import com.example.apigateway.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+class AdaptiveConcurrencyFilterTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final Sinks.Empty<Void> upstreamDone = Sinks.empty();
+
+    // 응답을 보내지 않고 upstreamDone이 끝날 때까지 붙잡고 있는 업스트림
+    private final GatewayFilterChain slowUpstream = exchange -> upstreamDone.asMono()
+            .then(Mono.fromRunnable(() -> exchange.getResponse().setStatusCode(HttpStatus.OK)));
+
+    private GatewayFilter filter(int initialLimit) {
+        AdaptiveConcurrencyFilter.Config config = new AdaptiveConcurrencyFilter.Config();
+        config.setInitialLimit(initialLimit);
+        config.setMinLimit(1);
+        config.setRouteId("board-service");
+        return new AdaptiveConcurrencyFilter(new GatewayMetrics(registry)).apply(config);
+    }
+
+    @Test
+    void requestsAboveLimitAreShedWith503() {
+        GatewayFilter filter = filter(2);
+        MockServerWebExchange first = exchange();
+        MockServerWebExchange second = exchange();
+        MockServerWebExchange third = exchange();
+        filter.filter(first, slowUpstream).subscribe();
+        filter.filter(second, slowUpstream).subscribe();
+
+        filter.filter(third, slowUpstream).block(Duration.ofSeconds(1));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, third.getResponse().getStatusCode());
+        assertEquals(1, count("gateway.concurrency.shed"));
+        assertEquals(2, gauge("gateway.concurrency.limit"));
+        assertEquals(2, gauge("gateway.concurrency.inflight"));
+
+        upstreamDone.tryEmitEmpty();
+        assertEquals(HttpStatus.OK, first.getResponse().getStatusCode());
+        assertEquals(0, gauge("gateway.concurrency.inflight"));
+    }
+
+    @Test
+    void cancelledRequestReleasesItsSlot() {
+        GatewayFilter filter = filter(1);
+        Disposable request = filter.filter(exchange(), slowUpstream).subscribe();
+        assertEquals(1, gauge("gateway.concurrency.inflight"));
+
+        request.dispose();
+        assertEquals(0, gauge("gateway.concurrency.inflight"));
+        MockServerWebExchange next = exchange();
+        filter.filter(next, exchange -> Mono.empty()).block(Duration.ofSeconds(1));
+        assertNotEquals(HttpStatus.SERVICE_UNAVAILABLE, next.getResponse().getStatusCode());
+        assertEquals(0, count("gateway.concurrency.shed"));
+    }
+
+    private double count(String name) {
+        // 라우트별 Meter는 첫 기록 시 만들어지므로 없으면 0
+        Counter counter = registry.find(name).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).tag("routeId", "board-service").gauge().value();
+    }
+
+    private static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/boards/1"));
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, Route.async()
+                .id("board-service").uri("lb://board-service").predicate(e -> true).build());
+        return exchange;
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.apigateway.filter;
+
+import com.example.apigateway.hedge.HedgeExclusionServiceInstanceListSupplier;
+import com.example.apigateway.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.Connection;
+import reactor.netty.NettyInbound;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+class HedgingFilterTest {
+
+    private static final ServiceInstance STALLED = new DefaultServiceInstance("board-1", "board-service", "localhost", 8082, false);
+    private static final ServiceInstance HEALTHY = new DefaultServiceInstance("board-2", "board-service", "localhost", 8084, false);
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger cancelled = new AtomicInteger();
+
+    // 첫 요청은 멈춘 인스턴스(8082), 헤지 요청은 로드밸런서처럼 제외된 인스턴스를 피해 8084로 감
+    private GatewayFilterChain upstream(Duration stall) {
+        return exchange -> {
+            boolean hedged = exchange.getAttribute(HedgeExclusionServiceInstanceListSupplier.EXCLUDED_INSTANCE_ATTR) != null;
+            ServiceInstance instance = hedged ? HEALTHY : STALLED;
+            exchange.getAttributes().put(GATEWAY_LOADBALANCER_RESPONSE_ATTR, new DefaultResponse(instance));
+            Mono<Void> respond = Mono.defer(() -> write(exchange.getResponse(), "from " + instance.getPort()));
+            return hedged ? respond : Mono.delay(stall).then(respond).doOnCancel(cancelled::incrementAndGet);
+        };
+    }
+
+    private GatewayFilter filter(double budgetPercent) {
+        HedgingFilter.Config config = new HedgingFilter.Config();
+        config.setMinDelay(Duration.ofMillis(20));
+        config.setMaxDelay(Duration.ofMillis(50));
+        config.setBudgetPercent(budgetPercent);
+        return new HedgingFilter(new GatewayMetrics(registry)).apply(config);
+    }
+
+    @Test
+    void stalledRequestIsAnsweredByAnotherInstance() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/boards/1"));
+        filter(100).filter(exchange, upstream(Duration.ofSeconds(5))).block(Duration.ofSeconds(2));
+
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals("from 8084", exchange.getResponse().getBodyAsString().block());
+        assertEquals(1, cancelled.get());
+        assertEquals(1, count("gateway.hedge.sent"));
+        assertEquals(1, count("gateway.hedge.won"));
+        // 접근 로그가 실제로 응답한 인스턴스를 기록하도록 속성이 옮겨짐
+        DefaultResponse chosen = exchange.getAttribute(GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        assertEquals(8084, chosen.getServer().getPort());
+    }
+
+    @Test
+    void fastResponseIsNotHedged() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/boards/1"));
+        filter(100).filter(exchange, upstream(Duration.ZERO)).block(Duration.ofSeconds(2));
+
+        assertEquals("from 8082", exchange.getResponse().getBodyAsString().block());
+        assertEquals(0, count("gateway.hedge.sent"));
+    }
+
+    @Test
+    void budgetLimitsExtraRequests() {
+        GatewayFilter filter = filter(10);
+        GatewayFilterChain upstream = upstream(Duration.ofMillis(300));
+        List<MockServerWebExchange> exchanges = Flux.range(0, 100)
+                .map(i -> exchange(MockServerHttpRequest.get("/boards/" + i)))
+                .collectList().block();
+
+        Flux.fromIterable(exchanges)
+                .flatMap(exchange -> filter.filter(exchange, upstream), 100)
+                .blockLast(Duration.ofSeconds(5));
+
+        assertEquals(10, count("gateway.hedge.sent"));
+        assertEquals(10, count("gateway.hedge.won"));
+        long hedgedResponses = exchanges.stream()
+                .filter(exchange -> "from 8084".equals(exchange.getResponse().getBodyAsString().block()))
+                .count();
+        assertEquals(10, hedgedResponses);
+    }
+
+    @Test
+    void largeOrChunkedResponseIsStreamedFromTheUpstreamConnection() {
+        for (long contentLength : new long[]{1024 * 1024, -1}) {
+            Connection connection = mock(Connection.class);
+            NettyInbound inbound = mock(NettyInbound.class);
+            when(connection.inbound()).thenReturn(inbound);
+            when(inbound.receive()).thenReturn(ByteBufFlux.fromString(Flux.just("large ", "body")));
+            AtomicInteger calls = new AtomicInteger();
+            GatewayFilterChain upstream = exchange -> {
+                calls.incrementAndGet();
+                exchange.getAttributes().put(GATEWAY_LOADBALANCER_RESPONSE_ATTR, new DefaultResponse(STALLED));
+                exchange.getResponse().setStatusCode(HttpStatus.OK);
+                if (contentLength >= 0) {
+                    exchange.getResponse().getHeaders().setContentLength(contentLength);
+                } else {
+                    exchange.getResponse().getHeaders().set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+                }
+                exchange.getAttributes().put(CLIENT_RESPONSE_CONN_ATTR, connection);
+                return Mono.empty();
+            };
+            MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/boards"));
+
+            filter(100).filter(exchange, upstream).block(Duration.ofSeconds(2));
+
+            // 본문은 모으지도 다시 요청하지도 않고, 이 연결에서 필터가 받은 응답으로 그대로 전달
+            assertEquals(1, calls.get());
+            assertNull(exchange.getAttribute(CLIENT_RESPONSE_CONN_ATTR));
+            assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+            assertEquals(contentLength, exchange.getResponse().getHeaders().getContentLength());
+            assertEquals("large body", exchange.getResponse().getBodyAsString().block());
+            verify(connection, never()).dispose();
+        }
+    }
+
+    @Test
+    void writesAreNotHedged() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.post("/boards"));
+        filter(100).filter(exchange, upstream(Duration.ofMillis(200))).block(Duration.ofSeconds(2));
+
+        assertEquals("from 8082", exchange.getResponse().getBodyAsString().block());
+        assertEquals(0, count("gateway.hedge.sent"));
+    }
+
+    private double count(String name) {
+        // 라우트별 Meter는 첫 기록 시 만들어지므로 없으면 0
+        Counter counter = registry.find(name).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, String body) {
+        response.setStatusCode(HttpStatus.OK);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, Route.async()
+                .id("board-service").uri("lb://board-service").predicate(e -> true).build());
+        return exchange;
+    }
+}
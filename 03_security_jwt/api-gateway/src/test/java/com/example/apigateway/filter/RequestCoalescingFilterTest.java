@@ -0,0 +1,89 @@
+package com.example.apigateway.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+class RequestCoalescingFilterTest {
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final Sinks.Empty<Void> upstreamReady = Sinks.empty();
+
+    // gate가 열릴 때까지 응답을 보내지 않는 업스트림
+    private final GatewayFilterChain slowUpstream = exchange -> {
+        upstreamCalls.incrementAndGet();
+        byte[] body = "popular board".getBytes(StandardCharsets.UTF_8);
+        return upstreamReady.asMono().then(Mono.defer(() -> {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+        }));
+    };
+
+    @Test
+    void concurrentIdenticalReadsShareOneUpstreamCall() {
+        GatewayFilter filter = new RequestCoalescingFilter().apply(new RequestCoalescingFilter.Config());
+        List<MockServerWebExchange> exchanges = new ArrayList<>();
+        List<Disposable> requests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            MockServerWebExchange exchange = exchange("alice");
+            exchanges.add(exchange);
+            requests.add(filter.filter(exchange, slowUpstream).subscribe());
+        }
+
+        upstreamReady.tryEmitEmpty();
+
+        assertEquals(1, upstreamCalls.get());
+        for (MockServerWebExchange exchange : exchanges) {
+            assertEquals("popular board", exchange.getResponse().getBodyAsString().block());
+        }
+        requests.forEach(Disposable::dispose);
+    }
+
+    @Test
+    void waitersBeyondLimitCallUpstreamThemselves() {
+        RequestCoalescingFilter.Config config = new RequestCoalescingFilter.Config();
+        config.setMaxWaiters(2);
+        GatewayFilter filter = new RequestCoalescingFilter().apply(config);
+        for (int i = 0; i < 5; i++) {
+            filter.filter(exchange("alice"), slowUpstream).subscribe();
+        }
+
+        upstreamReady.tryEmitEmpty();
+
+        assertEquals(3, upstreamCalls.get());
+    }
+
+    @Test
+    void differentUsersAreNotCoalesced() {
+        GatewayFilter filter = new RequestCoalescingFilter().apply(new RequestCoalescingFilter.Config());
+        filter.filter(exchange("alice"), slowUpstream).subscribe();
+        filter.filter(exchange("bob"), slowUpstream).subscribe();
+
+        upstreamReady.tryEmitEmpty();
+
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    private static MockServerWebExchange exchange(String userId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/boards/1").header("X-USER-ID", userId));
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR,
+                Route.async().id("board-service").uri("lb://board-service").predicate(e -> true).build());
+        return exchange;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.apigateway.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestDecompressionFilterTest {
+
+    private static final String BOARD = "{\"title\":\"제목\",\"content\":\"" + "본문 ".repeat(2000) + "\"}";
+
+    private final AtomicReference<String> received = new AtomicReference<>();
+    private final AtomicReference<HttpHeaders> receivedHeaders = new AtomicReference<>();
+
+    // 업스트림처럼 본문을 끝까지 읽음
+    private final GatewayFilterChain upstream = exchange -> DataBufferUtils.join(exchange.getRequest().getBody())
+            .doOnNext(body -> {
+                received.set(body.toString(StandardCharsets.UTF_8));
+                receivedHeaders.set(exchange.getRequest().getHeaders());
+                DataBufferUtils.release(body);
+            })
+            .then(Mono.fromRunnable(() -> exchange.getResponse().setStatusCode(HttpStatus.CREATED)));
+
+    private GatewayFilter filter(DataSize maxSize) {
+        RequestDecompressionFilter.Config config = new RequestDecompressionFilter.Config();
+        config.setMaxSize(maxSize);
+        return new RequestDecompressionFilter().apply(config);
+    }
+
+    @Test
+    void gzipBodyIsDecompressedForUpstream() throws IOException {
+        MockServerWebExchange exchange = post("gzip", gzip(BOARD.getBytes(StandardCharsets.UTF_8)));
+        filter(DataSize.ofMegabytes(1)).filter(exchange, upstream).block(Duration.ofSeconds(2));
+
+        assertEquals(HttpStatus.CREATED, exchange.getResponse().getStatusCode());
+        assertEquals(BOARD, received.get());
+        assertNull(receivedHeaders.get().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(-1, receivedHeaders.get().getContentLength());
+    }
+
+    @Test
+    void deflateBodyIsDecompressedForUpstream() throws IOException {
+        MockServerWebExchange exchange = post("deflate", deflate(BOARD.getBytes(StandardCharsets.UTF_8)));
+        filter(DataSize.ofMegabytes(1)).filter(exchange, upstream).block(Duration.ofSeconds(2));
+
+        assertEquals(BOARD, received.get());
+    }
+
+    @Test
+    void uncompressedBodyPassesThrough() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/boards").body(BOARD));
+        filter(DataSize.ofMegabytes(1)).filter(exchange, upstream).block(Duration.ofSeconds(2));
+
+        assertEquals(BOARD, received.get());
+    }
+
+    @Test
+    void bodyLargerThanLimitAfterDecompressionIsRejected() throws IOException {
+        // 1MB의 0은 약 1KB로 압축됨
+        MockServerWebExchange exchange = post("gzip", gzip(new byte[1024 * 1024]));
+        filter(DataSize.ofKilobytes(64)).filter(exchange, upstream).block(Duration.ofSeconds(2));
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exchange.getResponse().getStatusCode());
+        assertNull(received.get());
+    }
+
+    @Test
+    void upstreamErrorForAbortedBodyIsReplaced() throws IOException {
+        // 본문이 중간에 끊기면 업스트림(Tomcat)이 먼저 400으로 응답할 수 있음
+        GatewayFilterChain abortedUpstream = exchange -> DataBufferUtils.join(exchange.getRequest().getBody())
+                .then()
+                .onErrorResume(e -> {
+                    exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+                    exchange.getResponse().getHeaders().setContentLength(120);
+                    return Mono.empty();
+                });
+        MockServerWebExchange exchange = post("gzip", gzip(new byte[1024 * 1024]));
+        filter(DataSize.ofKilobytes(64)).filter(exchange, abortedUpstream).block(Duration.ofSeconds(2));
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exchange.getResponse().getStatusCode());
+        assertEquals(-1, exchange.getResponse().getHeaders().getContentLength());
+    }
+
+    @Test
+    void corruptBodyIsRejected() throws IOException {
+        byte[] compressed = gzip(BOARD.getBytes(StandardCharsets.UTF_8));
+        Arrays.fill(compressed, 20, 40, (byte) 0x7f);
+        MockServerWebExchange exchange = post("gzip", compressed);
+        filter(DataSize.ofMegabytes(1)).filter(exchange, upstream).block(Duration.ofSeconds(2));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void unsupportedEncodingIsRejected() {
+        MockServerWebExchange exchange = post("br", new byte[]{1, 2, 3});
+        filter(DataSize.ofMegabytes(1)).filter(exchange, upstream).block(Duration.ofSeconds(2));
+
+        assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, exchange.getResponse().getStatusCode());
+        assertNull(received.get());
+    }
+
+    private static MockServerWebExchange post(String encoding, byte[] body) {
+        // 네트워크에서 받는 것처럼 작은 조각으로 나누어 전달
+        Flux<DataBuffer> chunks = Flux.range(0, (body.length + 511) / 512)
+                .map(i -> DefaultDataBufferFactory.sharedInstance.wrap(
+                        Arrays.copyOfRange(body, i * 512, Math.min(body.length, (i + 1) * 512))));
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/boards")
+                .header(HttpHeaders.CONTENT_ENCODING, encoding)
+                .contentLength(body.length)
+                .body(chunks));
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out)) {
+            deflate.write(data);
+        }
+        return out.toByteArray();
+    }
+}
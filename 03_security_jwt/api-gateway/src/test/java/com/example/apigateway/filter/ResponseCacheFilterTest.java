@@ -0,0 +1,149 @@
+package com.example.apigateway.filter;
+
+import com.example.apigateway.cache.ResponseCacheStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+class ResponseCacheFilterTest {
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private GatewayFilter filter;
+
+    // 업스트림(Board Service) 대신 호출 횟수를 세고 고정 본문을 돌려주는 체인
+    private final GatewayFilterChain upstream = exchange -> {
+        upstreamCalls.incrementAndGet();
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        exchange.getResponse().getHeaders().setContentType(MediaType.TEXT_PLAIN);
+        byte[] body = ("board for " + exchange.getRequest().getHeaders().getFirst("X-USER-ID"))
+                .getBytes(StandardCharsets.UTF_8);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+    };
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheStore store = new ResponseCacheStore(DataSize.ofMegabytes(1), DataSize.ofKilobytes(64));
+        filter = new ResponseCacheFilter(store).apply(new ResponseCacheFilter.Config());
+    }
+
+    @Test
+    void repeatedReadIsServedFromCache() {
+        MockServerWebExchange first = exchange(MockServerHttpRequest.get("/boards/1").header("X-USER-ID", "alice"));
+        filter.filter(first, upstream).block();
+        MockServerWebExchange second = exchange(MockServerHttpRequest.get("/boards/1").header("X-USER-ID", "alice"));
+        filter.filter(second, upstream).block();
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertEquals("board for alice", second.getResponse().getBodyAsString().block());
+        assertNotNull(second.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    void usersDoNotShareCachedResponses() {
+        filter.filter(exchange(MockServerHttpRequest.get("/boards/1").header("X-USER-ID", "alice")), upstream).block();
+        MockServerWebExchange bob = exchange(MockServerHttpRequest.get("/boards/1").header("X-USER-ID", "bob"));
+        filter.filter(bob, upstream).block();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("board for bob", bob.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void matchingIfNoneMatchGetsNotModified() {
+        filter.filter(exchange(MockServerHttpRequest.get("/boards/1").header("X-USER-ID", "alice")), upstream).block();
+        MockServerWebExchange hit = exchange(MockServerHttpRequest.get("/boards/1").header("X-USER-ID", "alice"));
+        filter.filter(hit, upstream).block();
+        String etag = hit.getResponse().getHeaders().getETag();
+
+        MockServerWebExchange conditional = exchange(MockServerHttpRequest.get("/boards/1")
+                .header("X-USER-ID", "alice").header(HttpHeaders.IF_NONE_MATCH, etag));
+        filter.filter(conditional, upstream).block();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, conditional.getResponse().getStatusCode());
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void missResponseCarriesTheETagUsedForRevalidation() {
+        MockServerWebExchange miss = exchange(MockServerHttpRequest.get("/boards/1").header("X-USER-ID", "alice"));
+        filter.filter(miss, upstream).block();
+        String etag = miss.getResponse().getHeaders().getETag();
+
+        assertEquals("MISS", miss.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertNotNull(etag);
+        // 게이트웨이가 응답을 압축할 수 있으므로 약한 ETag
+        assertTrue(etag.startsWith("W/\""), etag);
+        assertEquals("board for alice", miss.getResponse().getBodyAsString().block());
+
+        MockServerWebExchange conditional = exchange(MockServerHttpRequest.get("/boards/1")
+                .header("X-USER-ID", "alice").header(HttpHeaders.IF_NONE_MATCH, etag));
+        filter.filter(conditional, upstream).block();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, conditional.getResponse().getStatusCode());
+    }
+
+    @Test
+    void oversizedResponseStreamsThroughWithoutETag() {
+        String chunk = "x".repeat(16 * 1024);
+        GatewayFilterChain large = exchange -> {
+            upstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            return exchange.getResponse().writeWith(Flux.range(0, 8).map(i -> exchange.getResponse().bufferFactory()
+                    .wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        };
+        MockServerWebExchange miss = exchange(MockServerHttpRequest.get("/boards").header("X-USER-ID", "alice"));
+        filter.filter(miss, large).block();
+
+        assertNull(miss.getResponse().getHeaders().getETag());
+        assertEquals(chunk.repeat(8), miss.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void noCacheAndPrivateResponsesAreNotStored() {
+        assertFalse(ResponseCacheFilter.isCacheable(HttpStatus.OK, headers("no-cache")));
+        assertFalse(ResponseCacheFilter.isCacheable(HttpStatus.OK, headers("max-age=60, Private")));
+        assertFalse(ResponseCacheFilter.isCacheable(HttpStatus.OK, headers("no-cache=\"Set-Cookie\"")));
+        assertFalse(ResponseCacheFilter.isCacheable(HttpStatus.OK, headers("no-store")));
+        assertTrue(ResponseCacheFilter.isCacheable(HttpStatus.OK, headers("public, max-age=60")));
+        assertFalse(ResponseCacheFilter.isCacheable(HttpStatus.NOT_FOUND, new HttpHeaders()));
+    }
+
+    @Test
+    void successfulWriteInvalidatesRoute() {
+        filter.filter(exchange(MockServerHttpRequest.get("/boards/1").header("X-USER-ID", "alice")), upstream).block();
+        filter.filter(exchange(MockServerHttpRequest.put("/boards/1").header("X-USER-ID", "alice")), upstream).block();
+        filter.filter(exchange(MockServerHttpRequest.get("/boards/1").header("X-USER-ID", "alice")), upstream).block();
+
+        assertEquals(3, upstreamCalls.get());
+    }
+
+    private static HttpHeaders headers(String cacheControl) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(cacheControl);
+        return headers;
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR,
+                Route.async().id("board-service").uri("lb://board-service").predicate(e -> true).build());
+        return exchange;
+    }
+}
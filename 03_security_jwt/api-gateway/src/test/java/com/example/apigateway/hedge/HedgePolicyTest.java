@@ -0,0 +1,64 @@
+package com.example.apigateway.hedge;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgePolicyTest {
+
+    private final AtomicLong now = new AtomicLong(1);
+
+    private HedgePolicy policy(double budgetPercent) {
+        return new HedgePolicy(0.95, Duration.ofMillis(1), Duration.ofSeconds(5), budgetPercent, now::get);
+    }
+
+    @Test
+    void delayFollowsRecentPercentile() {
+        HedgePolicy policy = policy(10);
+        assertEquals(TimeUnit.SECONDS.toNanos(5), policy.delayNanos());
+
+        for (int ms = 1; ms <= 1000; ms++) {
+            policy.record(TimeUnit.MILLISECONDS.toNanos(ms));
+        }
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        long p95 = TimeUnit.MILLISECONDS.toNanos(950);
+        assertTrue(Math.abs(policy.delayNanos() - p95) < p95 / 8, "delay " + policy.delayNanos());
+
+        // 응답 시간이 빨라지면 두 구간(20초)이 지난 뒤에는 새 분포만 반영
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        for (int i = 0; i < 100; i++) {
+            policy.record(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        for (int i = 0; i < 100; i++) {
+            policy.record(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        assertTrue(policy.delayNanos() <= TimeUnit.MILLISECONDS.toNanos(6), "delay " + policy.delayNanos());
+    }
+
+    @Test
+    void budgetCapsHedgesToPercentOfRequests() {
+        HedgePolicy policy = policy(10);
+        int hedges = 0;
+        for (int i = 0; i < 1000; i++) {
+            policy.onRequest();
+            if (policy.tryAcquire()) {
+                hedges++;
+            }
+        }
+        assertEquals(100, hedges);
+        assertFalse(policy.tryAcquire());
+    }
+
+    @Test
+    void bucketsCoverEachValueWithinOneEighth() {
+        for (long micros = 1; micros < 10_000_000; micros = micros * 3 / 2 + 1) {
+            long upper = HedgePolicy.upperBoundMicros(HedgePolicy.bucket(micros));
+            assertTrue(upper > micros && upper <= micros + micros / 8 + 1, micros + " -> " + upper);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.apigateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRateLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong(1_000_000_000L);
+
+    private InMemoryRateLimiter limiter(int maxKeys) {
+        InMemoryRateLimiter.Config config = new InMemoryRateLimiter.Config().setReplenishRate(10).setBurstCapacity(5);
+        return new InMemoryRateLimiter(null, new TokenBucketTable(maxKeys, nanoTime::get), config);
+    }
+
+    @Test
+    void burstIsAllowedThenLimitedUntilRefill() {
+        InMemoryRateLimiter limiter = limiter(1000);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(allowed(limiter, "member:alice"));
+        }
+        assertFalse(allowed(limiter, "member:alice"));
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(100)); // 초당 10개 → 100ms에 1개 충전
+        assertTrue(allowed(limiter, "member:alice"));
+        assertFalse(allowed(limiter, "member:alice"));
+    }
+
+    @Test
+    void keysAndRoutesHaveSeparateBuckets() {
+        InMemoryRateLimiter limiter = limiter(1000);
+        for (int i = 0; i < 5; i++) {
+            limiter.isAllowed("board-service", "member:alice").block();
+        }
+
+        assertFalse(allowed(limiter, "member:alice"));
+        assertTrue(allowed(limiter, "member:bob"));
+        assertTrue(limiter.isAllowed("member-service", "member:alice").block().isAllowed());
+    }
+
+    @Test
+    void memoryStaysFixedWithManyDistinctKeys() {
+        TokenBucketTable table = new TokenBucketTable(1000, nanoTime::get);
+        InMemoryRateLimiter limiter = new InMemoryRateLimiter(null, table,
+                new InMemoryRateLimiter.Config().setReplenishRate(10).setBurstCapacity(5));
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(allowed(limiter, "ip:" + i));
+        }
+
+        assertEquals(2048, table.capacity());
+    }
+
+    private static boolean allowed(InMemoryRateLimiter limiter, String key) {
+        return limiter.isAllowed("board-service", key).block().isAllowed();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.apigateway.util;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PrivateJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JwksKeyCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ES256", "EdDSA"})
+    void verifiesTokensWithPublicKeysFromJwks(String algorithm) {
+        SignatureAlgorithm alg = (SignatureAlgorithm) Jwts.SIG.get().forKey(algorithm);
+        PrivateJwk<?, ?, ?> signingJwk = Jwks.builder()
+                .keyPair(alg.keyPair().build())
+                .algorithm(alg.getId())
+                .idFromThumbprint()
+                .build();
+        String token = Jwts.builder()
+                .header().keyId(signingJwk.getId()).and()
+                .subject("testuser")
+                .claim("type", "access")
+                .signWith(signingJwk.toKeyPair().getPrivate())
+                .compact();
+
+        JwksKeyCache cache = cache(now::get);
+        JwtParser parser = Jwts.parser().keyLocator(cache).build();
+
+        assertThrows(UnknownKeyIdException.class, () -> parser.parseSignedClaims(token));
+
+        cache.load("{\"keys\":[" + Jwks.json(signingJwk.toPublicJwk()) + "]}");
+
+        assertEquals("testuser", parser.parseSignedClaims(token).getPayload().getSubject());
+    }
+
+    @Test
+    void keysFromOtherInstancesAreKeptUntilRetentionEnds() {
+        PrivateJwk<?, ?, ?> instanceA = signingJwk();
+        PrivateJwk<?, ?, ?> instanceB = signingJwk();
+        String tokenA = token(instanceA);
+        String tokenB = token(instanceB);
+        JwksKeyCache cache = cache(now::get);
+        JwtParser parser = Jwts.parser().keyLocator(cache).build();
+
+        // 로드밸런싱으로 조회할 때마다 다른 인스턴스가 자기 키만 응답
+        cache.load(jwks(instanceA));
+        cache.load(jwks(instanceB));
+
+        assertEquals("testuser", parser.parseSignedClaims(tokenA).getPayload().getSubject());
+        assertEquals("testuser", parser.parseSignedClaims(tokenB).getPayload().getSubject());
+
+        now.addAndGet(Duration.ofHours(3).toMillis());
+        cache.load(jwks(instanceB));
+
+        assertThrows(UnknownKeyIdException.class, () -> parser.parseSignedClaims(tokenA));
+        assertEquals("testuser", parser.parseSignedClaims(tokenB).getPayload().getSubject());
+    }
+
+    private static JwksKeyCache cache(LongSupplier clock) {
+        return new JwksKeyCache(mock(ReactorLoadBalancerExchangeFilterFunction.class),
+                "http://member-service/.well-known/jwks.json", Duration.ofSeconds(30), Duration.ofSeconds(3),
+                Duration.ofHours(2), clock);
+    }
+
+    private static PrivateJwk<?, ?, ?> signingJwk() {
+        return Jwks.builder()
+                .keyPair(Jwts.SIG.ES256.keyPair().build())
+                .algorithm(Jwts.SIG.ES256.getId())
+                .idFromThumbprint()
+                .build();
+    }
+
+    private static String token(PrivateJwk<?, ?, ?> jwk) {
+        return Jwts.builder()
+                .header().keyId(jwk.getId()).and()
+                .subject("testuser")
+                .signWith(jwk.toKeyPair().getPrivate())
+                .compact();
+    }
+
+    private static String jwks(PrivateJwk<?, ?, ?> jwk) {
+        return "{\"keys\":[" + Jwks.json(jwk.toPublicJwk()) + "]}";
+    }
+}
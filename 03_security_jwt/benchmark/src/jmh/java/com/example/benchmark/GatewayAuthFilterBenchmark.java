@@ -0,0 +1,83 @@
+package com.example.benchmark;
+
+import com.example.apigateway.auth.TokenClaimsCache;
+import com.example.apigateway.auth.VerifiedToken;
+import com.example.apigateway.filter.JwtAuthenticationFilter;
+import com.example.apigateway.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * JwtAuthenticationFilter 전체 판단 경로 (요청 1건 = 1 op, ops/sec ≒ requests/sec 상한)
+ *
+ * - legacyFourParses: 필터 개선 전처럼 validate/isAccess/getMemberId/getRole 4회 파싱
+ * - filterUncached: 현재 필터, 요청당 1회 검증 (claims 캐시 비활성)
+ * - filterCached: 현재 필터, 같은 토큰 재사용 시 캐시 히트 (서명 검증 생략)
+ * - singleVerify / cachedVerify: 요청 객체 생성 비용을 뺀 검증 단계만 측정
+ */
+@State(Scope.Benchmark)
+public class GatewayAuthFilterBenchmark {
+
+    private static final GatewayFilterChain PASS_THROUGH = exchange -> Mono.empty();
+
+    private JwtUtil jwtUtil;
+    private GatewayFilter uncachedFilter;
+    private GatewayFilter cachedFilter;
+    private TokenClaimsCache claimsCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = TokenFixtures.gatewayJwtUtil(TokenFixtures.HS256_SECRET);
+        token = TokenFixtures.memberJwtUtil(TokenFixtures.HS256_SECRET).generateAccessToken("testuser", "USER");
+        uncachedFilter = new JwtAuthenticationFilter(jwtUtil, TokenFixtures.claimsCache(false), TokenFixtures.prechecker(),
+                TokenFixtures.revocationList(), TokenFixtures.identitySigner(), TokenFixtures.metrics())
+                .apply(new JwtAuthenticationFilter.Config());
+        cachedFilter = new JwtAuthenticationFilter(jwtUtil, TokenFixtures.claimsCache(true), TokenFixtures.prechecker(),
+                TokenFixtures.revocationList(), TokenFixtures.identitySigner(), TokenFixtures.metrics())
+                .apply(new JwtAuthenticationFilter.Config());
+        claimsCache = TokenFixtures.claimsCache(true);
+    }
+
+    @Benchmark
+    public String legacyFourParses() {
+        if (!jwtUtil.validateToken(token) || !jwtUtil.isAccessToken(token)) {
+            return null;
+        }
+        return jwtUtil.getMemberIdFromToken(token) + jwtUtil.getRoleFromToken(token);
+    }
+
+    @Benchmark
+    public VerifiedToken singleVerify() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cachedVerify() {
+        return claimsCache.get(token, jwtUtil::verify);
+    }
+
+    @Benchmark
+    public Object filterUncached() {
+        MockServerWebExchange exchange = exchange();
+        uncachedFilter.filter(exchange, PASS_THROUGH).block();
+        return exchange.getResponse().getStatusCode();
+    }
+
+    @Benchmark
+    public Object filterCached() {
+        MockServerWebExchange exchange = exchange();
+        cachedFilter.filter(exchange, PASS_THROUGH).block();
+        return exchange.getResponse().getStatusCode();
+    }
+
+    private MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/boards")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+}
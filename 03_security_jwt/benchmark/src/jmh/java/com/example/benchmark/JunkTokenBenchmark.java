@@ -0,0 +1,52 @@
+package com.example.benchmark;
+
+import com.example.apigateway.auth.RejectionReason;
+import com.example.apigateway.auth.TokenPrechecker;
+import com.example.apigateway.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 잘못된 토큰(봇 트래픽) 거부 비용
+ *
+ * - precheck: 서명 검증 전 구조/만료 사전 검사로 거부
+ * - fullVerify: 사전 검사 없이 서명 검증 단계에서 예외로 거부 (이전 방식)
+ */
+@State(Scope.Benchmark)
+public class JunkTokenBenchmark {
+
+    @Param({"garbage", "truncated", "expired"})
+    public String kind;
+
+    private TokenPrechecker prechecker;
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        prechecker = TokenFixtures.prechecker();
+        jwtUtil = TokenFixtures.gatewayJwtUtil(TokenFixtures.HS256_SECRET);
+        String valid = TokenFixtures.memberJwtUtil(TokenFixtures.HS256_SECRET).generateAccessToken("testuser", "USER");
+        token = switch (kind) {
+            case "garbage" -> "not-a-jwt at all!";
+            case "truncated" -> valid.substring(0, valid.lastIndexOf('.'));
+            case "expired" -> expiredToken();
+            default -> throw new IllegalArgumentException(kind);
+        };
+    }
+
+    @Benchmark
+    public RejectionReason precheck() {
+        return prechecker.check(token);
+    }
+
+    @Benchmark
+    public boolean fullVerify() {
+        return jwtUtil.validateToken(token);
+    }
+
+    private static String expiredToken() {
+        com.example.memberservice.util.JwtUtil minting = TokenFixtures.memberJwtUtil(TokenFixtures.HS256_SECRET);
+        org.springframework.test.util.ReflectionTestUtils.setField(minting, "accessTokenExpiration", -60000L);
+        return minting.generateAccessToken("testuser", "USER");
+    }
+}
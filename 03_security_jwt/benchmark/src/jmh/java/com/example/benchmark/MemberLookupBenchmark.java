@@ -0,0 +1,110 @@
+package com.example.benchmark;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.repository.MemberRepository;
+import com.example.memberservice.service.CustomUserDetailsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 회원 100만 명 저장소에서 로그인 사용자 조회 비용 (CustomUserDetailsService.loadUserByUsername)
+ *
+ * - byMemberId / byEmail: 기본키 조회 / email 고유 인덱스 조회
+ * - cacheMaxSize: 0이면 매번 DB 조회, 100000이면 UserDetails 캐시 사용
+ * - access: hot = 회원 1만 명만 반복 로그인 (캐시에 모두 들어감), uniform = 100만 명 전체에서 무작위
+ *
+ * 회원 서비스의 실제 엔티티/저장소/서비스를 내장 H2(메모리)와 함께 띄우고,
+ * 회원 데이터는 이미 해시된 비밀번호로 JDBC 일괄 입력합니다. (입력 시간은 측정에서 제외)
+ */
+@State(Scope.Benchmark)
+public class MemberLookupBenchmark {
+
+    private static final int MEMBERS = 1_000_000;
+    private static final int HOT_MEMBERS = 10_000;
+    private static final String PASSWORD_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1/Q1vvjc6zxy7VxB6o0V3e6";
+
+    @Param({"0", "100000"})
+    public int cacheMaxSize;
+
+    @Param({"hot", "uniform"})
+    public String access;
+
+    private ConfigurableApplicationContext context;
+    private CustomUserDetailsService userDetailsService;
+    private int keyRange;
+
+    @Setup
+    public void setUp() {
+        // 클래스패스의 서비스 application.yml보다 우선하도록 명령행 인자로 지정
+        context = new SpringApplicationBuilder(MemberStoreConfig.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run("--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:members;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--member.user-details-cache.max-size=" + cacheMaxSize,
+                        "--member.user-details-cache.ttl=PT1H");
+        insertMembers(context.getBean(JdbcTemplate.class));
+        userDetailsService = context.getBean(CustomUserDetailsService.class);
+        keyRange = "hot".equals(access) ? HOT_MEMBERS : MEMBERS;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private static void insertMembers(JdbcTemplate jdbcTemplate) {
+        String sql = "INSERT INTO members (member_id, password, role, name, email) VALUES (?, ?, ?, ?, ?)";
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < MEMBERS; i++) {
+            batch.add(new Object[]{"user" + i, PASSWORD_HASH, "USER", "회원 " + i, "user" + i + "@example.com"});
+            if (batch.size() == 10_000) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UserDetails byMemberId() {
+        return userDetailsService.loadUserByUsername("user" + ThreadLocalRandom.current().nextInt(keyRange));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UserDetails byEmail() {
+        return userDetailsService.loadUserByUsername("user" + ThreadLocalRandom.current().nextInt(keyRange) + "@example.com");
+    }
+
+    /**
+     * 회원 저장소 부분만 띄우는 설정 (컨트롤러, 보안 설정, Eureka 등록 제외)
+     */
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class, TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = Member.class)
+    @EnableJpaRepositories(basePackageClasses = MemberRepository.class)
+    @Import(CustomUserDetailsService.class)
+    static class MemberStoreConfig {
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.benchmark;
+
+import com.example.apigateway.auth.PublicPathMatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공개 경로 판별 비용 (선언된 경로 수백 개 기준)
+ *
+ * - compiledMatcher: 라우트 생성 시 컴파일한 PublicPathMatcher (요청마다 조회 한 번)
+ * - containsChain: 선언된 경로를 요청마다 순서대로 contains 비교 (이전 방식을 경로 수만큼 확장)
+ */
+@State(Scope.Benchmark)
+public class PublicPathMatcherBenchmark {
+
+    @Param({"10", "500"})
+    public int declaredPaths;
+
+    @Param({"hit", "miss"})
+    public String lookup;
+
+    private PublicPathMatcher matcher;
+    private List<String> patterns;
+    private String path;
+
+    @Setup
+    public void setUp() {
+        patterns = new ArrayList<>();
+        for (int i = 0; i < declaredPaths; i++) {
+            patterns.add("/service" + (i % 20) + "/public/resource" + i);
+        }
+        patterns.add("/static/*/assets/**");
+        matcher = PublicPathMatcher.compile(patterns);
+        path = "hit".equals(lookup)
+                ? "/service" + ((declaredPaths - 1) % 20) + "/public/resource" + (declaredPaths - 1)
+                : "/boards/12345";
+    }
+
+    @Benchmark
+    public boolean compiledMatcher() {
+        return matcher.matches(path);
+    }
+
+    @Benchmark
+    public boolean containsChain() {
+        for (String pattern : patterns) {
+            if (path.contains(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.benchmark;
+
+import com.example.apigateway.ratelimit.InMemoryRateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 게이트웨이 메모리 기반 요청 한도 판정 비용
+ *
+ * distinctKeys개의 키를 돌아가며 판정합니다. 100만 키에서도 요청당 할당과 지연이
+ * 키 수와 무관하게 일정한지(-prof gc의 gc.alloc.rate.norm) 확인하는 용도입니다.
+ */
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int distinctKeys;
+
+    private InMemoryRateLimiter limiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        limiter = new InMemoryRateLimiter(null, 1_000_000, 10, 20);
+        keys = new String[distinctKeys];
+        for (int i = 0; i < distinctKeys; i++) {
+            keys[i] = "member:user" + i;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean isAllowed(Cursor cursor) {
+        String key = keys[cursor.next++ % keys.length];
+        return limiter.isAllowed("board-service", key).block().isAllowed();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Date;
+
+/**
+ * 서명 알고리즘별 검증/서명 비용 비교
+ *
+ * 게이트웨이를 늘려도 비밀키를 배포하지 않으려면 비대칭 키(RS256/ES256/EdDSA)가 필요하므로,
+ * HMAC 대비 검증 비용이 얼마나 늘어나는지 확인해 가장 저렴한 알고리즘을 고릅니다.
+ * 파서는 모두 미리 한 번 만들어 재사용합니다. (게이트웨이 JwtUtil과 동일)
+ */
+@State(Scope.Benchmark)
+public class SignatureAlgorithmBenchmark {
+
+    @Param({"HS256", "HS512", "RS256", "ES256", "EdDSA"})
+    public String algorithm;
+
+    private Key signingKey;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        if (algorithm.startsWith("HS")) {
+            SecretKey secretKey = Keys.hmacShaKeyFor(TokenFixtures.secretFor(algorithm).getBytes(StandardCharsets.UTF_8));
+            signingKey = secretKey;
+            parser = Jwts.parser().verifyWith(secretKey).build();
+        } else {
+            SignatureAlgorithm alg = (SignatureAlgorithm) Jwts.SIG.get().forKey(algorithm);
+            KeyPair keyPair = alg.keyPair().build();
+            signingKey = keyPair.getPrivate();
+            parser = Jwts.parser().verifyWith(keyPair.getPublic()).build();
+        }
+        token = sign();
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public String sign() {
+        return Jwts.builder()
+                .header().keyId("bench").and()
+                .subject("testuser")
+                .claim("role", "USER")
+                .claim("type", "access")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 3600000L))
+                .signWith(signingKey)
+                .compact();
+    }
+}
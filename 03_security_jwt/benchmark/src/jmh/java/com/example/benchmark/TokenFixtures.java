@@ -0,0 +1,77 @@
+package com.example.benchmark;
+
+import com.example.apigateway.auth.IdentityAssertionSigner;
+import com.example.apigateway.auth.RevocationList;
+import com.example.apigateway.auth.TokenClaimsCache;
+import com.example.apigateway.auth.TokenPrechecker;
+import com.example.apigateway.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+/**
+ * 벤치마크용 JwtUtil/JwtKeyRing 생성 도우미
+ *
+ * 스프링 컨텍스트 없이 각 서비스의 실제 클래스를 직접 생성합니다.
+ * HMAC 알고리즘은 키 길이로 결정됩니다. (32바이트 → HS256, 64바이트 → HS512)
+ */
+final class TokenFixtures {
+
+    static final String HS256_SECRET = "mySecretKey123456789012345678901234567890";
+    static final String HS512_SECRET = HS256_SECRET + "mySecretKey12345678901234567890";
+
+    private TokenFixtures() {
+    }
+
+    static String secretFor(String algorithm) {
+        return switch (algorithm) {
+            case "HS256" -> HS256_SECRET;
+            case "HS512" -> HS512_SECRET;
+            default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        };
+    }
+
+    static com.example.memberservice.util.JwtUtil memberJwtUtil(String secret) {
+        com.example.memberservice.util.JwtKeyRing keyRing = new com.example.memberservice.util.JwtKeyRing(
+                secret, "", Duration.ofSeconds(30), new DefaultResourceLoader(), event -> { });
+        com.example.memberservice.util.JwtUtil jwtUtil = new com.example.memberservice.util.JwtUtil(keyRing);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 3600000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 604800000L);
+        return jwtUtil;
+    }
+
+    static com.example.apigateway.util.JwtUtil gatewayJwtUtil(String secret) {
+        com.example.apigateway.util.JwtKeyRing keyRing = new com.example.apigateway.util.JwtKeyRing(
+                secret, "", Duration.ofSeconds(30), new DefaultResourceLoader(), event -> { });
+        return new com.example.apigateway.util.JwtUtil(keyRing);
+    }
+
+    static TokenPrechecker prechecker() {
+        return new TokenPrechecker(4096, Duration.ZERO);
+    }
+
+    static RevocationList revocationList() {
+        return new RevocationList(2_000_000, 0.001, Duration.ofMinutes(1));
+    }
+
+    static IdentityAssertionSigner identitySigner() {
+        return new IdentityAssertionSigner("internalIdentityAssertionKey-0123456789abcdef", Duration.ofSeconds(30));
+    }
+
+    static GatewayMetrics metrics() {
+        return new GatewayMetrics(new SimpleMeterRegistry());
+    }
+
+    static TokenClaimsCache claimsCache(boolean enabled) {
+        return new TokenClaimsCache(enabled, 100_000, Duration.ofHours(1));
+    }
+
+    /**
+     * claimSize 바이트 길이의 role 값 (클레임 크기 변화에 따른 파싱 비용 측정용)
+     */
+    static String roleOfSize(int claimSize) {
+        return claimSize <= 4 ? "USER" : "USER" + "x".repeat(claimSize - 4);
+    }
+}
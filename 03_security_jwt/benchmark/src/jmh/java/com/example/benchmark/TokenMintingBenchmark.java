@@ -0,0 +1,36 @@
+package com.example.benchmark;
+
+import com.example.memberservice.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * member-service 토큰 발급 비용 (로그인 1회당 Access + Refresh 토큰 생성)
+ */
+@State(Scope.Benchmark)
+public class TokenMintingBenchmark {
+
+    @Param({"HS256", "HS512"})
+    public String algorithm;
+
+    @Param({"4", "256", "2048"})
+    public int claimSize;
+
+    private JwtUtil jwtUtil;
+    private String role;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = TokenFixtures.memberJwtUtil(TokenFixtures.secretFor(algorithm));
+        role = TokenFixtures.roleOfSize(claimSize);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken("testuser", role);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtUtil.generateRefreshToken("testuser");
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게이트웨이 토큰 검증(parseClaims) 비용
+ *
+ * - cachedParser: 시작 시 한 번 만든 파서 재사용 (현재 JwtUtil)
+ * - coldParser: 호출마다 키와 파서를 새로 생성 (키 링 도입 전 방식)
+ */
+@State(Scope.Benchmark)
+public class TokenVerificationBenchmark {
+
+    @Param({"HS256", "HS512"})
+    public String algorithm;
+
+    @Param({"4", "256", "2048"})
+    public int claimSize;
+
+    private com.example.apigateway.util.JwtUtil gatewayJwtUtil;
+    private String secret;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secret = TokenFixtures.secretFor(algorithm);
+        gatewayJwtUtil = TokenFixtures.gatewayJwtUtil(secret);
+        token = TokenFixtures.memberJwtUtil(secret)
+                .generateAccessToken("testuser", TokenFixtures.roleOfSize(claimSize));
+    }
+
+    @Benchmark
+    public Claims cachedParser() {
+        return gatewayJwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims coldParser() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
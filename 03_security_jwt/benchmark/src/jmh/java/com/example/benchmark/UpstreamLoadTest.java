@@ -0,0 +1,141 @@
+package com.example.benchmark;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 게이트웨이 → 서비스 연결 방식(http1 / h2c) 비교용 부하 발생기 (JMH가 아닌 일반 main)
+ *
+ * 실행 중인 게이트웨이에 동시 요청 concurrency개를 duration 동안 계속 보내면서,
+ * 게이트웨이의 /actuator/prometheus에서 인스턴스별 업스트림 연결 수를 주기적으로 읽어 최대값을 기록합니다.
+ * 출력: 처리량, 지연 p50/p99/max, 오류 수, 인스턴스별 최대 연결 수(및 h2c 동시 스트림 수)
+ *
+ * 실행: gradle upstreamLoadTest --args="http://localhost:8080/api/boards/health 200 30"
+ * 서비스 여러 대 + 게이트웨이 두 방식 비교 전체 과정은 upstream-loadtest.sh 참고
+ */
+public final class UpstreamLoadTest {
+
+    // reactor.netty.connection.provider.* 게이지 (게이트웨이 pool.metrics=true일 때 노출)
+    private static final Pattern POOL_GAUGE = Pattern.compile(
+            "^reactor_netty_connection_provider_(total_connections|active_streams)\\{.*name=\"([^\"]+)\".*remote_address=\"([^\"]+)\".*} ([0-9.Ee+-]+)$");
+
+    private UpstreamLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:8080/api/boards/health";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        String metricsUrl = url.replaceFirst("(https?://[^/]+).*", "$1") + "/actuator/prometheus";
+
+        // 부하 발생기 자체가 병목이 되지 않도록 동시 요청 수만큼 연결을 열어 둠
+        ConnectionProvider provider = ConnectionProvider.builder("load")
+                .maxConnections(concurrency)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        HttpClient client = HttpClient.create(provider).responseTimeout(Duration.ofSeconds(10));
+
+        // 메트릭 조회는 부하용 연결 풀이 가득 차도 밀리지 않도록 별도 연결 사용
+        HttpClient metricsClient = HttpClient.newConnection().responseTimeout(Duration.ofSeconds(5));
+        Map<String, Double> maxGauges = new ConcurrentHashMap<>();
+        ScheduledExecutorService scraper = Executors.newSingleThreadScheduledExecutor();
+        scraper.scheduleWithFixedDelay(() -> scrape(metricsClient, metricsUrl, maxGauges), 0, 500, TimeUnit.MILLISECONDS);
+
+        // 워밍업: 연결 수립과 JIT 컴파일이 측정에 섞이지 않도록
+        run(client, url, concurrency, Duration.ofSeconds(5), new ConcurrentLinkedQueue<>(), new AtomicLong());
+        maxGauges.clear();
+
+        ConcurrentLinkedQueue<long[]> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        long start = System.nanoTime();
+        run(client, url, concurrency, duration, latencies, errors);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        scraper.shutdownNow();
+        report(url, concurrency, elapsedSeconds, latencies, errors.get(), maxGauges);
+        provider.disposeLater().block();
+    }
+
+    private static void run(HttpClient client, String url, int concurrency, Duration duration,
+                            ConcurrentLinkedQueue<long[]> latencies, AtomicLong errors) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        Flux.range(0, concurrency)
+                .flatMap(worker -> {
+                    long[] samples = new long[1 << 12];
+                    int[] count = {0};
+                    return Mono.defer(() -> {
+                                long t0 = System.nanoTime();
+                                return client.get().uri(url)
+                                        .responseSingle((response, body) -> body.then(Mono.just(response.status())))
+                                        .doOnNext(status -> {
+                                            if (status.equals(HttpResponseStatus.OK)) {
+                                                if (count[0] == samples.length) {
+                                                    latencies.add(Arrays.copyOf(samples, count[0]));
+                                                    count[0] = 0;
+                                                }
+                                                samples[count[0]++] = System.nanoTime() - t0;
+                                            } else {
+                                                errors.incrementAndGet();
+                                            }
+                                        })
+                                        .onErrorResume(e -> {
+                                            errors.incrementAndGet();
+                                            return Mono.empty();
+                                        });
+                            })
+                            .repeat(() -> System.nanoTime() < deadline)
+                            .then(Mono.fromRunnable(() -> latencies.add(Arrays.copyOf(samples, count[0]))));
+                }, concurrency)
+                .blockLast();
+    }
+
+    private static void scrape(HttpClient client, String metricsUrl, Map<String, Double> maxGauges) {
+        String body = client.get().uri(metricsUrl).responseContent().aggregate().asString()
+                .onErrorReturn("").block(Duration.ofSeconds(10));
+        if (body == null) {
+            return;
+        }
+        Map<String, Double> current = new TreeMap<>();
+        for (String line : body.split("\n")) {
+            Matcher m = POOL_GAUGE.matcher(line);
+            if (m.matches()) {
+                // http2 풀은 연결이 아닌 스트림 단위로 집계되므로 h2c는 http2.* 풀의 active_streams를 함께 봄
+                current.merge(m.group(3) + " " + m.group(2) + " " + m.group(1), Double.parseDouble(m.group(4)), Double::sum);
+            }
+        }
+        current.forEach((key, value) -> maxGauges.merge(key, value, Math::max));
+    }
+
+    private static void report(String url, int concurrency, double elapsedSeconds, ConcurrentLinkedQueue<long[]> latencies,
+                               long errors, Map<String, Double> maxGauges) {
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("target=%s concurrency=%d duration=%.1fs%n", url, concurrency, elapsedSeconds);
+        System.out.printf("requests=%d errors=%d throughput=%.0f req/s%n", all.length, errors, all.length / elapsedSeconds);
+        if (all.length > 0) {
+            System.out.printf("latency p50=%.2fms p99=%.2fms max=%.2fms%n",
+                    percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1e6);
+        }
+        System.out.println("upstream pool (max observed, per instance):");
+        new TreeMap<>(maxGauges).forEach((key, value) -> System.out.printf("  %-60s %.0f%n", key, value));
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))] / 1e6;
+    }
+}
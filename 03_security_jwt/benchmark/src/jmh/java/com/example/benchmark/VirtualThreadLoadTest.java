@@ -0,0 +1,199 @@
+package com.example.benchmark;
+
+import com.example.apigateway.auth.IdentityAssertionSigner;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * board-service 요청 처리 방식(플랫폼 스레드 풀 / 가상 스레드) 비교용 부하 발생기 (JMH가 아닌 일반 main)
+ *
+ * 게시글 작성(POST /boards)은 Feign으로 member-service를 동기 호출하므로 요청 시간 대부분을 응답 대기로 보냅니다.
+ * 이 프로그램은 응답을 stubDelayMs 늦게 주는 member-service 대역(stub)을 띄우고,
+ * 실행 중인 board-service에 동시 요청 concurrency개를 duration 동안 계속 보냅니다.
+ * (X-USER-ASSERTION은 게이트웨이와 같은 키로 요청마다 서명)
+ * 측정 중 board-service 프로세스의 RSS와 스레드 수를 /proc/{pid}/status에서 주기적으로 읽어 최대값을 기록합니다.
+ * 출력: 처리량, 지연 p50/p99/max, 대체 응답(degraded) 수, 오류 수, 최대 RSS, 최대 OS 스레드 수
+ * (처리량과 지연은 member-service 응답을 받아 정상 처리된 요청만 집계)
+ *
+ * 실행: gradle virtualThreadLoadTest --args="http://localhost:18082/boards 1000 20 <board-service pid> 18081 50"
+ * board-service를 두 방식으로 차례로 띄워 비교하는 전체 과정은 virtual-thread-loadtest.sh 참고
+ */
+public final class VirtualThreadLoadTest {
+
+    // member-service 호출 실패 시 board-service가 200으로 보내는 대체 응답 (MemberServiceClientFallbackFactory)
+    private static final String FALLBACK_MARKER = "회원 정보 없음";
+    private static final int OK = 0;
+    private static final int DEGRADED = 1;
+    private static final int ERROR = 2;
+
+    private VirtualThreadLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:18082/boards";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 20);
+        long pid = args.length > 3 ? Long.parseLong(args[3]) : -1;
+        int stubPort = args.length > 4 ? Integer.parseInt(args[4]) : 18081;
+        long stubDelayMillis = args.length > 5 ? Long.parseLong(args[5]) : 50;
+
+        ScheduledExecutorService stubThreads = Executors.newScheduledThreadPool(4);
+        HttpServer stub = startMemberStub(stubPort, stubDelayMillis, stubThreads);
+        IdentityAssertionSigner signer = TokenFixtures.identitySigner();
+
+        ConnectionProvider provider = ConnectionProvider.builder("load")
+                .maxConnections(concurrency)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        HttpClient client = HttpClient.create(provider).responseTimeout(Duration.ofSeconds(30));
+
+        long[] maxProcess = new long[2];  // RSS(kB), 스레드 수
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        if (pid > 0) {
+            sampler.scheduleWithFixedDelay(() -> sample(pid, maxProcess), 0, 200, TimeUnit.MILLISECONDS);
+        }
+
+        // 워밍업: 연결 수립, JIT 컴파일, Tomcat 스레드 생성이 측정에 섞이지 않도록
+        run(client, signer, url, concurrency, Duration.ofSeconds(5), new ConcurrentLinkedQueue<>(), new AtomicLong(),
+                new AtomicLong());
+
+        ConcurrentLinkedQueue<long[]> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong degraded = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long start = System.nanoTime();
+        run(client, signer, url, concurrency, duration, latencies, degraded, errors);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        sampler.shutdownNow();
+        report(url, concurrency, stubDelayMillis, elapsedSeconds, latencies, degraded.get(), errors.get(), maxProcess);
+        provider.disposeLater().block();
+        stub.stop(0);
+        stubThreads.shutdownNow();
+    }
+
+    /**
+     * GET /members/{id}에 delayMillis 뒤 응답하는 member-service 대역
+     * (응답은 스케줄러에서 보내므로 대역 자체는 적은 스레드로 많은 동시 요청을 처리)
+     */
+    private static HttpServer startMemberStub(int port, long delayMillis, ScheduledExecutorService threads)
+            throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 4096);
+        server.createContext("/members/", exchange ->
+                threads.schedule(() -> respond(exchange), delayMillis, TimeUnit.MILLISECONDS));
+        server.setExecutor(threads);
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange) {
+        byte[] body = ("Member Service: 회원 " + exchange.getRequestURI().getPath() + " 정보").getBytes(StandardCharsets.UTF_8);
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set("Content-Type", "text/plain;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (IOException e) {
+            // 호출 쪽(Feign read-timeout)이 이미 끊은 경우
+        }
+    }
+
+    private static void run(HttpClient client, IdentityAssertionSigner signer, String url, int concurrency,
+                            Duration duration, ConcurrentLinkedQueue<long[]> latencies, AtomicLong degraded,
+                            AtomicLong errors) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        Flux.range(0, concurrency)
+                .flatMap(worker -> {
+                    String memberId = "user" + worker;
+                    long[] samples = new long[1 << 12];
+                    int[] count = {0};
+                    return Mono.defer(() -> {
+                                long t0 = System.nanoTime();
+                                return client
+                                        .headers(headers -> headers
+                                                .set(IdentityAssertionSigner.HEADER, signer.sign(memberId, "USER"))
+                                                .set("Content-Type", "text/plain;charset=UTF-8"))
+                                        .post().uri(url)
+                                        .send(ByteBufFlux.fromString(Mono.just("제목: 부하 테스트")))
+                                        .responseSingle((response, body) -> body.asString().defaultIfEmpty("")
+                                                .map(text -> !response.status().equals(HttpResponseStatus.OK) ? ERROR
+                                                        : text.contains(FALLBACK_MARKER) ? DEGRADED : OK))
+                                        .doOnNext(outcome -> {
+                                            if (outcome == OK) {
+                                                if (count[0] == samples.length) {
+                                                    latencies.add(Arrays.copyOf(samples, count[0]));
+                                                    count[0] = 0;
+                                                }
+                                                samples[count[0]++] = System.nanoTime() - t0;
+                                            } else if (outcome == DEGRADED) {
+                                                degraded.incrementAndGet();
+                                            } else {
+                                                errors.incrementAndGet();
+                                            }
+                                        })
+                                        .onErrorResume(e -> {
+                                            errors.incrementAndGet();
+                                            return Mono.empty();
+                                        });
+                            })
+                            .repeat(() -> System.nanoTime() < deadline)
+                            .then(Mono.fromRunnable(() -> latencies.add(Arrays.copyOf(samples, count[0]))));
+                }, concurrency)
+                .blockLast();
+    }
+
+    /**
+     * /proc/{pid}/status의 VmRSS(kB)와 Threads(OS 스레드 수) 최대값 갱신 (Linux 전용)
+     */
+    private static void sample(long pid, long[] maxProcess) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/" + pid + "/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    maxProcess[0] = Math.max(maxProcess[0], Long.parseLong(line.replaceAll("\\D", "")));
+                } else if (line.startsWith("Threads:")) {
+                    maxProcess[1] = Math.max(maxProcess[1], Long.parseLong(line.replaceAll("\\D", "")));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 프로세스가 없거나 Linux가 아님
+        }
+    }
+
+    private static void report(String url, int concurrency, long stubDelayMillis, double elapsedSeconds,
+                               ConcurrentLinkedQueue<long[]> latencies, long degraded, long errors, long[] maxProcess) {
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("target=POST %s concurrency=%d member-service delay=%dms duration=%.1fs%n",
+                url, concurrency, stubDelayMillis, elapsedSeconds);
+        System.out.printf("requests=%d degraded=%d errors=%d throughput=%.0f req/s%n",
+                all.length, degraded, errors, all.length / elapsedSeconds);
+        if (all.length > 0) {
+            System.out.printf("latency p50=%.2fms p99=%.2fms max=%.2fms%n",
+                    percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1e6);
+        }
+        if (maxProcess[0] > 0) {
+            System.out.printf("board-service max RSS=%.0fMB max OS threads=%d%n", maxProcess[0] / 1024.0, maxProcess[1]);
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))] / 1e6;
+    }
+}
@@ -0,0 +1,95 @@
+#!/usr/bin/env bash
+# 서비스 기동 시간 비교: 일반 jar(plain) vs 빠른 시작 모드(fast: Spring AOT + AppCDS, ../gradle/fast-startup.gradle)
+#
+# 프로세스를 띄운 순간부터 첫 요청이 200으로 응답할 때까지의 시간(time to first request)을
+# 여러 번 재서 최소/중앙값/최대와 Spring Boot가 기록한 기동 시간("Started ... in N seconds")을 출력합니다.
+# Eureka 등록/조회는 끄고 서비스 하나만 띄웁니다 (다른 서비스 없이 응답하는 health 경로 사용).
+#
+# 사용법: ./startup-benchmark.sh [서비스=board-service] [반복 횟수=5]
+#         서비스: eureka-server | api-gateway | member-service | board-service
+set -euo pipefail
+cd "$(dirname "$0")"
+
+SERVICE=${1:-board-service}
+RUNS=${2:-5}
+PORT=18200
+OUT=build/startup
+SERVICE_DIR=../$SERVICE
+JAR_NAME=$SERVICE-0.0.1-SNAPSHOT.jar
+
+case "$SERVICE" in
+    eureka-server)  HEALTH_PATH=/eureka/apps ;;
+    api-gateway)    HEALTH_PATH=/actuator/health ;;
+    member-service) HEALTH_PATH=/members/health ;;
+    board-service)  HEALTH_PATH=/boards/health ;;
+    *) echo "unknown service: $SERVICE" >&2; exit 1 ;;
+esac
+
+COMMON_ARGS=(
+    --server.port=$PORT
+    --eureka.client.register-with-eureka=false
+    --eureka.client.fetch-registry=false
+)
+APP_PID=
+
+cleanup() {
+    [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null || true
+    wait 2>/dev/null || true
+}
+trap cleanup EXIT
+
+now_millis() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# run_once <라벨> <작업 디렉터리> <java 인자...>: 첫 요청 성공까지 걸린 ms와 Spring Boot 기동 시간을 기록
+run_once() {
+    local label=$1 dir=$2
+    shift 2
+    local log="$OUT/$SERVICE-$label.log"
+    local start
+    start=$(now_millis)
+    (cd "$dir" && exec java "$@" "${COMMON_ARGS[@]}") > "$log" 2>&1 &
+    APP_PID=$!
+    until curl -sf -o /dev/null --max-time 1 "http://localhost:$PORT$HEALTH_PATH"; do
+        if ! kill -0 "$APP_PID" 2>/dev/null; then
+            echo "$label: process exited, see $log" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    FIRST_REQUEST_MILLIS=$(( $(now_millis) - start ))
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=
+    STARTED_SECONDS=$(grep -o 'Started [A-Za-z]* in [0-9.]*' "$log" | grep -o '[0-9.]*$' || echo '?')
+}
+
+# measure <라벨> <작업 디렉터리> <java 인자...>
+measure() {
+    local label=$1
+    local times=()
+    local started=()
+    for _ in $(seq 1 "$RUNS"); do
+        run_once "$@"
+        times+=("$FIRST_REQUEST_MILLIS")
+        started+=("${STARTED_SECONDS}s")
+    done
+    local sorted
+    sorted=($(printf '%s\n' "${times[@]}" | sort -n))
+    printf '%-8s first request: min %5d ms  median %5d ms  max %5d ms   (Spring Boot: %s)\n' \
+        "$label" "${sorted[0]}" "${sorted[$((RUNS / 2))]}" "${sorted[$((RUNS - 1))]}" "${started[*]}"
+}
+
+mkdir -p "$OUT"
+
+# 일반 jar (AOT 빌드가 같은 build/libs 경로를 덮어쓰므로 먼저 복사해 둠)
+gradle -q -p "$SERVICE_DIR" bootJar
+cp "$SERVICE_DIR/build/libs/$JAR_NAME" "$OUT/$SERVICE-plain.jar"
+
+# AOT 처리된 jar를 풀고 training run으로 CDS 아카이브와 기동 옵션(java.args) 생성 (build/cds)
+gradle -q -p "$SERVICE_DIR" -PfastStartup cdsArchive > "$OUT/$SERVICE-training.log" 2>&1
+
+echo "=== $SERVICE, $RUNS runs, java $(java -version 2>&1 | head -1) ==="
+measure plain "$OUT" -jar "$SERVICE-plain.jar"
+measure fast "$SERVICE_DIR/build/cds" @java.args -jar "$SERVICE.jar"
@@ -0,0 +1,72 @@
+#!/usr/bin/env bash
+# 게이트웨이 → board-service 연결 방식(http1 / h2c) 부하 비교
+#
+# board-service 인스턴스 여러 대를 띄우고 게이트웨이를 두 방식으로 차례로 실행하면서
+# 같은 부하를 보낸 뒤 처리량, 지연(p50/p99), 인스턴스별 최대 업스트림 연결 수를 출력합니다.
+#
+# 사용법: ./upstream-loadtest.sh [인스턴스 수=3] [동시 요청 수=200] [측정 시간(초)=30]
+#         H2C_MAX_CONNECTIONS=2 ./upstream-loadtest.sh  (h2c 인스턴스별 연결 수, 기본 4)
+set -euo pipefail
+cd "$(dirname "$0")"
+
+INSTANCES=${1:-3}
+CONCURRENCY=${2:-200}
+SECONDS_TO_RUN=${3:-30}
+H2C_MAX_CONNECTIONS=${H2C_MAX_CONNECTIONS:-4}
+GATEWAY_PORT=18080
+BOARD_BASE_PORT=18100
+OUT=build/loadtest
+PIDS=()
+
+cleanup() {
+    for pid in "${PIDS[@]}"; do kill "$pid" 2>/dev/null || true; done
+    wait 2>/dev/null || true
+}
+trap cleanup EXIT
+
+wait_for() {
+    for _ in $(seq 1 120); do
+        curl -sf -o /dev/null "$1" && return 0
+        sleep 1
+    done
+    echo "not ready: $1" >&2
+    return 1
+}
+
+mkdir -p "$OUT"
+gradle -q -p ../board-service bootJar
+gradle -q -p ../api-gateway bootJar
+
+INSTANCE_ARGS=()
+for i in $(seq 0 $((INSTANCES - 1))); do
+    port=$((BOARD_BASE_PORT + i))
+    SERVER_PORT=$port java -jar ../board-service/build/libs/board-service-0.0.1-SNAPSHOT.jar \
+        --eureka.client.enabled=false > "$OUT/board-$port.log" 2>&1 &
+    PIDS+=($!)
+    INSTANCE_ARGS+=("--spring.cloud.discovery.client.simple.instances.board-service[$i].uri=http://localhost:$port")
+done
+for i in $(seq 0 $((INSTANCES - 1))); do
+    wait_for "http://localhost:$((BOARD_BASE_PORT + i))/boards/health"
+done
+
+# h2c는 연결 하나에 동시 요청 여러 개를 싣기 때문에 인스턴스별 연결 수를 작게 제한 (application.yml 설명 참고)
+for mode in http1:200 h2c:$H2C_MAX_CONNECTIONS; do
+    protocol=${mode%%:*}
+    max_connections=${mode##*:}
+    java -jar ../api-gateway/build/libs/api-gateway-0.0.1-SNAPSHOT.jar \
+        --server.port=$GATEWAY_PORT \
+        --spring.config.additional-location=file:./upstream-loadtest.yml \
+        --gateway.upstream.protocol=$protocol \
+        --spring.cloud.gateway.httpclient.pool.max-connections=$max_connections \
+        "${INSTANCE_ARGS[@]}" > "$OUT/gateway-$protocol.log" 2>&1 &
+    gateway_pid=$!
+    PIDS+=($gateway_pid)
+    wait_for "http://localhost:$GATEWAY_PORT/actuator/health"
+
+    echo "=== gateway.upstream.protocol=$protocol, pool.max-connections=$max_connections, board-service x$INSTANCES ==="
+    gradle -q upstreamLoadTest \
+        --args="http://localhost:$GATEWAY_PORT/api/boards/health $CONCURRENCY $SECONDS_TO_RUN" | tee "$OUT/result-$protocol.txt"
+
+    kill $gateway_pid
+    wait $gateway_pid 2>/dev/null || true
+done
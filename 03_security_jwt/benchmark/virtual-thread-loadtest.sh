@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# board-service 요청 처리 방식(플랫폼 스레드 풀 / 가상 스레드) 부하 비교
+#
+# board-service를 두 방식으로 차례로 띄우고, 응답을 늦게 주는 member-service 대역에 Feign 호출이 걸리는
+# 게시글 작성(POST /boards)에 같은 부하를 보낸 뒤 처리량, 지연(p50/p99), 최대 RSS, 최대 OS 스레드 수를 출력합니다.
+# 가상 스레드 모드는 Java 21 이상에서만 동작하므로 JAVA(기본 java)가 21 미만이면 플랫폼 스레드 모드만 측정합니다.
+#
+# 사용법: ./virtual-thread-loadtest.sh [동시 요청 수=1000] [측정 시간(초)=20] [member-service 응답 지연(ms)=50]
+#         JAVA=/usr/lib/jvm/temurin-21/bin/java ./virtual-thread-loadtest.sh
+set -euo pipefail
+cd "$(dirname "$0")"
+
+CONCURRENCY=${1:-1000}
+SECONDS_TO_RUN=${2:-20}
+DELAY_MILLIS=${3:-50}
+JAVA=${JAVA:-java}
+BOARD_PORT=18082
+STUB_PORT=18081
+OUT=build/loadtest
+PIDS=()
+
+cleanup() {
+    for pid in "${PIDS[@]}"; do kill "$pid" 2>/dev/null || true; done
+    wait 2>/dev/null || true
+}
+trap cleanup EXIT
+
+wait_for() {
+    for _ in $(seq 1 120); do
+        curl -sf -o /dev/null "$1" && return 0
+        sleep 1
+    done
+    echo "not ready: $1" >&2
+    return 1
+}
+
+mkdir -p "$OUT"
+gradle -q -p ../board-service bootJar
+gradle -q jmhClasses
+
+JAVA_MAJOR=$("$JAVA" -XshowSettings:properties -version 2>&1 | awk -F' = ' '/java.specification.version/ {print $2}')
+MODES=(platform)
+if [ "${JAVA_MAJOR%%.*}" -ge 21 ]; then
+    MODES+=(virtual)
+else
+    echo "Java $JAVA_MAJOR: 가상 스레드 모드는 Java 21 이상 필요 (JAVA=<java 21 경로>로 지정), 플랫폼 스레드 모드만 측정합니다." >&2
+fi
+
+# 요청 처리 방식 차이만 보이도록 member-service 호출 한도(bulkhead)와 헤지 요청은 끔
+for mode in "${MODES[@]}"; do
+    virtual=false
+    [ "$mode" = virtual ] && virtual=true
+    "$JAVA" -jar ../board-service/build/libs/board-service-0.0.1-SNAPSHOT.jar \
+        --server.port=$BOARD_PORT \
+        --spring.threads.virtual.enabled=$virtual \
+        --eureka.client.enabled=false \
+        --spring.cloud.discovery.client.simple.instances.member-service[0].uri=http://localhost:$STUB_PORT \
+        --hedging.enabled=false \
+        --resilience4j.bulkhead.instances.member-service.max-concurrent-calls=100000 \
+        --resilience4j.circuitbreaker.instances.member-service.slow-call-duration-threshold=10s \
+        > "$OUT/board-$mode.log" 2>&1 &
+    board_pid=$!
+    PIDS+=($board_pid)
+    wait_for "http://localhost:$BOARD_PORT/boards/health"
+
+    echo "=== board-service spring.threads.virtual.enabled=$virtual (Java $JAVA_MAJOR) ==="
+    gradle -q virtualThreadLoadTest \
+        --args="http://localhost:$BOARD_PORT/boards $CONCURRENCY $SECONDS_TO_RUN $board_pid $STUB_PORT $DELAY_MILLIS" \
+        | tee "$OUT/result-threads-$mode.txt"
+
+    kill $board_pid
+    wait $board_pid 2>/dev/null || true
+done
@@ -0,0 +1,29 @@
+package com.example.boardservice.client;
+
+import com.example.boardservice.security.IdentityAssertion;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 처리 중인 요청의 X-USER-ASSERTION을 Feign 호출(Member Service 등)에 그대로 전달
+ *
+ * 게이트웨이가 서명한 요청자 정보를 다음 서비스도 HMAC 한 번으로 확인할 수 있으므로
+ * 서비스 사이 호출마다 JWT를 다시 검증하거나 새로 발급할 필요가 없습니다.
+ * (서명 헤더가 없거나 요청 스레드 밖에서의 호출이면 아무것도 붙이지 않음)
+ */
+@Component
+public class IdentityPropagationInterceptor implements RequestInterceptor {
+
+    @Override
+    public void apply(RequestTemplate template) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            String assertion = attributes.getRequest().getHeader(IdentityAssertion.HEADER);
+            if (assertion != null) {
+                template.header(IdentityAssertion.HEADER, assertion);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.boardservice.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 요청 하나 안에서 필요한 회원 조회를 모아 Member Service 호출 한 번으로 처리 (N+1 호출 제거)
+ *
+ * 게시글 목록처럼 작성자 정보가 여러 건 필요할 때 게시글마다 getMember를 호출하면 목록 크기만큼 왕복이 생깁니다.
+ * - load(id): 조회할 회원 ID만 기록하고 결과는 나중에 채워질 CompletableFuture로 반환 (이 요청 안에서 같은 ID는 한 번만)
+ * - dispatch(): 지금까지 모인 ID를 GET /members?ids=... 한 번으로 조회해 결과를 채움
+ *   (모인 ID가 max-batch-size에 도달하면 자동으로 dispatch)
+ * - getAll(ids): load + dispatch를 한 번에
+ *
+ * 요청마다 따로 만들어지고(@RequestScope) 호출은 요청 스레드에서 실행되므로,
+ * IdentityPropagationInterceptor가 이 요청의 X-USER-ASSERTION을 그대로 전달하고 다른 사용자의 조회와 섞이지 않습니다.
+ * 실패 시 대체 응답은 getMember와 같음 (MemberServiceClientFallbackFactory)
+ */
+@Component
+@RequestScope
+public class MemberLookupBatcher {
+
+    private final MemberServiceClient memberServiceClient;
+    private final int maxBatchSize;
+    private final Map<String, CompletableFuture<String>> requested = new HashMap<>();
+    private final List<String> pending = new ArrayList<>();
+
+    public MemberLookupBatcher(MemberServiceClient memberServiceClient,
+                               @Value("${member-lookup.max-batch-size:100}") int maxBatchSize) {
+        this.memberServiceClient = memberServiceClient;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public CompletableFuture<String> load(String memberId) {
+        CompletableFuture<String> member = requested.get(memberId);
+        if (member != null) {
+            return member;
+        }
+        member = new CompletableFuture<>();
+        requested.put(memberId, member);
+        pending.add(memberId);
+        if (pending.size() >= maxBatchSize) {
+            dispatch();
+        }
+        return member;
+    }
+
+    public void dispatch() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<String> ids = List.copyOf(pending);
+        pending.clear();
+        Map<String, String> members;
+        try {
+            members = memberServiceClient.getMembers(ids);
+        } catch (RuntimeException e) {
+            ids.forEach(id -> requested.get(id).completeExceptionally(e));
+            throw e;
+        }
+        for (String id : ids) {
+            String member = members != null ? members.get(id) : null;
+            requested.get(id).complete(member != null ? member : "회원 정보 없음 (id=" + id + ")");
+        }
+    }
+
+    /**
+     * 회원 ID → 회원 정보 (순서 유지, 중복 제거)
+     */
+    public Map<String, String> getAll(Collection<String> memberIds) {
+        Map<String, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        for (String memberId : memberIds) {
+            futures.put(memberId, load(memberId));
+        }
+        dispatch();
+        Map<String, String> members = new LinkedHashMap<>();
+        futures.forEach((memberId, member) -> members.put(memberId, member.join()));
+        return members;
+    }
+}
@@ -3,6 +3,10 @@ package com.example.boardservice.client;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * MSA 핵심 개념 6: Feign Client (서비스 간 통신)
@@ -15,13 +19,15 @@ import org.springframework.web.bind.annotation.PathVariable;
  * 3. Spring Cloud가 런타임에 실제 구현체 생성
  * 4. Eureka를 통해 대상 서비스의 위치 자동 발견
  * 5. 로드밸런싱과 서킷 브레이커 자동 적용
+ *    (서킷 브레이커, 동시 호출 제한, 타임아웃은 application.yml, 실패 시 MemberServiceClientFallbackFactory)
  * 
  * 이점:
  * - 복잡한 HTTP 호출 코드를 간단한 인터페이스로 추상화
  * - 서비스 디스커버리와 로드밸런싱 자동 처리
  * - 다른 서비스 API 변경 시 인터페이스만 수정하면 됨
  */
-@FeignClient(name = "member-service")  // Eureka에 등록된 'member-service'라는 이름의 서비스를 호출
+@FeignClient(name = "member-service",  // Eureka에 등록된 'member-service'라는 이름의 서비스를 호출
+        fallbackFactory = MemberServiceClientFallbackFactory.class)  // 장애 시 대체 응답
 public interface MemberServiceClient {
 
     /**
@@ -34,4 +40,13 @@ public interface MemberServiceClient {
      */
     @GetMapping("/members/{id}")
     String getMember(@PathVariable("id") String id);
+
+    /**
+     * Member Service의 회원 여러 건 조회 API를 한 번에 호출 (회원 ID → 회원 정보)
+     *
+     * 예: getMembers(List.of("1", "2")) → HTTP GET http://member-service-ip:port/members?ids=1&ids=2
+     * 목록 화면처럼 여러 회원 정보가 필요하면 직접 호출하기보다 MemberLookupBatcher를 통해 모아서 호출합니다.
+     */
+    @GetMapping("/members")
+    Map<String, String> getMembers(@RequestParam("ids") List<String> ids);
 }
\ No newline at end of file
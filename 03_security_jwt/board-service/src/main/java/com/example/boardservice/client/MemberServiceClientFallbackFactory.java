@@ -0,0 +1,62 @@
+package com.example.boardservice.client;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Member Service 호출이 실패했을 때 사용할 대체 응답 (degraded response)
+ *
+ * 회원 정보는 게시글 작성에 부가 정보일 뿐이므로, Member Service가 느리거나 장애일 때
+ * 게시글 작성 전체를 실패시키지 않고 "회원 정보 없음"으로 계속 진행합니다.
+ * 실패 이유(서킷 열림, 동시 호출 한도 초과, 타임아웃/오류)를 응답에 남겨 원인을 구분할 수 있게 합니다.
+ */
+@Component
+public class MemberServiceClientFallbackFactory implements FallbackFactory<MemberServiceClient> {
+
+    @Override
+    public MemberServiceClient create(Throwable cause) {
+        return new Fallback(reason(cause));
+    }
+
+    private static String reason(Throwable cause) {
+        if (cause instanceof CallNotPermittedException) {
+            return "서킷 열림";
+        }
+        if (cause instanceof BulkheadFullException) {
+            return "동시 호출 한도 초과";
+        }
+        return "호출 실패: " + cause.getClass().getSimpleName();
+    }
+
+    /**
+     * 실패 이유를 담은 대체 응답 (여러 건 조회는 요청한 ID마다 같은 대체 응답)
+     */
+    private static final class Fallback implements MemberServiceClient {
+
+        private final String reason;
+
+        private Fallback(String reason) {
+            this.reason = reason;
+        }
+
+        @Override
+        public String getMember(String id) {
+            return "회원 정보 없음 (id=" + id + ", Member Service " + reason + ")";
+        }
+
+        @Override
+        public Map<String, String> getMembers(List<String> ids) {
+            Map<String, String> members = new LinkedHashMap<>();
+            for (String id : ids) {
+                members.put(id, getMember(id));
+            }
+            return members;
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.boardservice.controller;
 
+import com.example.boardservice.client.MemberLookupBatcher;
 import com.example.boardservice.client.MemberServiceClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * MSA 핵심 개념 7: 서비스 간 통신 예제
  * 
@@ -24,6 +30,18 @@ public class BoardController {
      */
     @Autowired
     private MemberServiceClient memberServiceClient;
+
+    /**
+     * 목록 조회처럼 회원 정보가 여러 건 필요할 때 사용 (요청마다 새로 생성되는 @RequestScope 빈)
+     */
+    @Autowired
+    private MemberLookupBatcher memberLookupBatcher;
+
+    // 최근 게시글 한 번에 조회할 수 있는 최대 건수 = max-batch-size × MAX_LOOKUP_BATCHES (작성자 조회 호출 5번 이내)
+    private static final int MAX_LOOKUP_BATCHES = 5;
+
+    @Value("${member-lookup.max-batch-size:100}")
+    private int memberLookupMaxBatchSize;
     
     @Value("${server.port}")
     private String serverPort;
@@ -37,6 +55,34 @@ public class BoardController {
         return "Board Service (Port: " + serverPort + "): 모든 게시글 목록을 조회했습니다.";
     }
 
+    /**
+     * 최근 게시글 목록 + 작성자 정보
+     * 예: GET /boards/recent?size=100
+     *
+     * 게시글마다 memberServiceClient.getMember(작성자)를 호출하면 게시글 수만큼 Member Service 왕복이 생깁니다 (N+1).
+     * 작성자 ID를 MemberLookupBatcher로 모아 GET /members?ids=... 한 번(max-batch-size마다 한 번)으로 조회합니다.
+     * size는 1 ~ max-batch-size × 5 (넘으면 400, 요청 하나가 응답 크기와 Member Service 호출 수를 키우지 않도록)
+     */
+    @GetMapping("/recent")
+    public ResponseEntity<List<String>> getRecentBoards(@RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > memberLookupMaxBatchSize * MAX_LOOKUP_BATCHES) {
+            return ResponseEntity.badRequest().build();
+        }
+        // 실제 프로덕션에서는 데이터베이스에서 게시글 목록을 조회
+        // (예제에서는 작성자 20명이 번갈아 작성한 게시글, 회원 저장소에 있는 작성자는 데모 계정 testuser뿐)
+        List<String> authorIds = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            authorIds.add(i % 20 == 0 ? "testuser" : "user" + (i % 20));
+        }
+        Map<String, String> authors = memberLookupBatcher.getAll(authorIds);
+
+        List<String> boards = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            boards.add("게시글 ID " + (i + 1) + ", 작성자 정보: " + authors.get(authorIds.get(i)));
+        }
+        return ResponseEntity.ok(boards);
+    }
+
     @GetMapping("/{id}")
     public String getBoard(@PathVariable String id,
                           @RequestHeader(value = "X-USER-ID", required = false) String userId) {
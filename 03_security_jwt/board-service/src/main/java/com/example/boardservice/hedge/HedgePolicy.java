@@ -0,0 +1,180 @@
+package com.example.boardservice.hedge;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 대상 서비스 하나의 헤지(hedge) 요청 기준: 언제 보낼지(지연 백분위)와 얼마나 보낼지(예산)
+ *
+ * 지연: 최근 응답 시간 분포의 delay-percentile 값 (예: p95)
+ * - 응답이 p95보다 늦어지면 대부분의 요청은 이미 끝났을 시간이므로, 그때부터는 다른 인스턴스에 한 번 더 보내는 편이 빠름
+ * - 응답 시간은 로그 스케일 버킷(2배 구간마다 8칸, 오차 12.5% 이내)에 세고, 10초 단위 두 구간(현재 + 직전)만 사용
+ * - 표본이 적으면 max-delay, 계산된 값은 min-delay ~ max-delay 범위로 제한
+ *
+ * 예산: 원래 요청 하나마다 budget-percent / 100개의 토큰을 쌓고 헤지 요청 하나에 토큰 1개를 씀
+ * - 업스트림 전체가 느려져도 추가 요청이 원래 요청의 budget-percent%를 넘지 않음 (부하 증폭 방지)
+ * - 한가한 동안 쌓아 둘 수 있는 토큰은 최대 MAX_BALANCE개
+ */
+public class HedgePolicy {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int MIN_SAMPLES = 20;
+
+    // 토큰은 1/1000 단위 정수로 관리
+    private static final long TOKEN = 1000;
+    private static final long MAX_BALANCE = 100 * TOKEN;
+
+    // 마이크로초 기준 로그 스케일 버킷 (0~7us는 1us 단위, 이후 2배 구간마다 8칸, 최대 약 12일)
+    private static final int SUB_BUCKETS = 8;
+    private static final int MAX_EXPONENT = 39;
+    private static final int BUCKETS = (MAX_EXPONENT - 1) * SUB_BUCKETS;
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final long depositPerRequest;
+    private final LongSupplier nanoClock;
+    private final AtomicLong balance = new AtomicLong();
+
+    private volatile Window current;
+    private volatile Window previous;
+    private volatile long delayNanos;
+    private volatile long delayComputedAt;
+
+    public HedgePolicy(double percentile, Duration minDelay, Duration maxDelay, double budgetPercent) {
+        this(percentile, minDelay, maxDelay, budgetPercent, System::nanoTime);
+    }
+
+    HedgePolicy(double percentile, Duration minDelay, Duration maxDelay, double budgetPercent, LongSupplier nanoClock) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("delay-percentile must be between 0 and 1: " + percentile);
+        }
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = Math.max(minDelayNanos, maxDelay.toNanos());
+        this.depositPerRequest = Math.round(budgetPercent / 100 * TOKEN);
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        this.current = new Window(now);
+        this.previous = new Window(now - WINDOW_NANOS);
+        this.delayNanos = maxDelayNanos;
+        this.delayComputedAt = now;
+    }
+
+    /**
+     * 원래 요청 한 건: 헤지 예산 적립
+     */
+    public void onRequest() {
+        if (depositPerRequest > 0) {
+            balance.getAndUpdate(b -> Math.min(MAX_BALANCE, b + depositPerRequest));
+        }
+    }
+
+    /**
+     * 헤지 요청을 보낼 수 있으면 예산에서 토큰 1개를 쓰고 true
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long b = balance.get();
+            if (b < TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(b, b - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 완료된 업스트림 호출 한 건의 응답 시간
+     */
+    public void record(long nanos) {
+        window(nanoClock.getAsLong()).counts.incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    /**
+     * 헤지 요청을 보내기 전 기다릴 시간 (REFRESH_NANOS마다 다시 계산)
+     */
+    public long delayNanos() {
+        long now = nanoClock.getAsLong();
+        if (now - delayComputedAt >= REFRESH_NANOS) {
+            delayComputedAt = now;
+            delayNanos = computeDelay(window(now), previous);
+        }
+        return delayNanos;
+    }
+
+    private long computeDelay(Window current, Window previous) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = current.counts.get(i) + previous.counts.get(i);
+            total += counts[i];
+        }
+        if (total < MIN_SAMPLES) {
+            return maxDelayNanos;
+        }
+        long rank = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // 버킷 상한을 사용 (실제 백분위보다 약간 늦게 보내는 쪽으로 오차)
+                long nanos = TimeUnit.MICROSECONDS.toNanos(upperBoundMicros(i));
+                return Math.max(minDelayNanos, Math.min(maxDelayNanos, nanos));
+            }
+        }
+        return maxDelayNanos;
+    }
+
+    private Window window(long now) {
+        Window window = current;
+        if (now - window.start < WINDOW_NANOS) {
+            return window;
+        }
+        synchronized (this) {
+            window = current;
+            if (now - window.start >= WINDOW_NANOS) {
+                // 한 구간 이상 요청이 없었으면 직전 구간 기록도 오래된 것으로 보고 버림
+                previous = now - window.start < 2 * WINDOW_NANOS ? window : new Window(now - WINDOW_NANOS);
+                current = window = new Window(now);
+            }
+            return window;
+        }
+    }
+
+    static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(0, micros);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) (micros >>> (exponent - 3)) & (SUB_BUCKETS - 1);
+        return (exponent - 2) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundMicros(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket + 1;
+        }
+        int exponent = bucket / SUB_BUCKETS + 2;
+        int sub = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub + 1) << (exponent - 3);
+    }
+
+    private static final class Window {
+
+        private final long start;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+        private Window(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.example.boardservice.hedge;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerUriTools;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Feign 호출에 헤지(hedged request)를 적용하는 Client
+ *
+ * 로드밸런서(FeignBlockingLoadBalancerClient)가 인스턴스를 고른 뒤 실제 HTTP 호출을 맡기는 위치에 들어갑니다.
+ * 대상 서비스가 hedging.services에 있고 GET 요청이면:
+ * 1. 고른 인스턴스로 호출을 시작하고 delay(최근 응답 시간의 delay-percentile 값)만큼 기다림
+ * 2. 그 안에 응답이 없고 예산이 남아 있으면 같은 요청을 다른 인스턴스로 한 번 더 보냄
+ * 3. 먼저 온 응답을 반환하고 진 호출은 취소 (실행 스레드를 인터럽트하고 HTTP 연결을 끊어 스레드를 바로 반환)
+ * - 헤지 요청이 실패하면 첫 요청의 결과를 그대로 사용, 첫 요청의 실패는 바로 호출자에게 전달
+ * - 인스턴스가 하나뿐이면 같은 인스턴스로 다시 보냄
+ *
+ * 두 호출을 동시에 기다려야 하므로 호출은 별도 스레드(executor)에서 실행됩니다.
+ * executor가 가득 차면 헤지 없이 호출 스레드에서 바로 실행합니다.
+ * 플랫폼 스레드의 소켓 읽기는 인터럽트로 풀리지 않으므로, delegate는 연결을 끊을 수 있는
+ * cancellableDefaultClient()(Client.Default와 동일)를 사용합니다.
+ * 서비스별로 feign.hedge.sent / feign.hedge.won 메트릭을 기록합니다.
+ */
+public class HedgingFeignClient implements Client {
+
+    private final Client delegate;
+    private final DiscoveryClient discoveryClient;
+    private final Set<String> services;
+    private final Function<String, HedgePolicy> policyFactory;
+    private final Executor executor;
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, ServiceHedge> hedges = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Call> CURRENT_CALL = new ThreadLocal<>();
+
+    public HedgingFeignClient(Client delegate, DiscoveryClient discoveryClient, Set<String> services,
+                              Function<String, HedgePolicy> policyFactory, Executor executor, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.discoveryClient = discoveryClient;
+        this.services = services;
+        this.policyFactory = policyFactory;
+        this.executor = executor;
+        this.registry = registry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String serviceId = serviceId(request);
+        if (request.httpMethod() != Request.HttpMethod.GET || serviceId == null || !services.contains(serviceId)) {
+            return delegate.execute(request, options);
+        }
+        ServiceHedge hedge = hedges.computeIfAbsent(serviceId, ServiceHedge::new);
+        HedgePolicy policy = hedge.policy;
+        policy.onRequest();
+
+        Call primary;
+        try {
+            primary = submit(request, options, policy);
+        } catch (RejectedExecutionException e) {
+            return delegate.execute(request, options);
+        }
+        try {
+            return primary.result.get(policy.delayNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 아래에서 헤지 요청
+        } catch (ExecutionException e) {
+            return await(primary.result);
+        } catch (InterruptedException e) {
+            primary.cancel();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for response");
+        }
+
+        if (!policy.tryAcquire()) {
+            return await(primary.result);
+        }
+        Call second;
+        try {
+            second = submit(alternative(request, serviceId), options, policy);
+        } catch (RejectedExecutionException e) {
+            return await(primary.result);
+        }
+        hedge.sent.increment();
+
+        CompletableFuture<Response> winner = new CompletableFuture<>();
+        primary.result.whenComplete((response, error) -> {
+            if (error != null) {
+                winner.completeExceptionally(error);
+            } else if (!winner.complete(response)) {
+                response.close();
+            }
+        });
+        second.result.whenComplete((response, error) -> {
+            if (error == null && !winner.complete(response)) {
+                response.close();
+            }
+        });
+        Response response = null;
+        try {
+            response = await(winner);
+        } finally {
+            // 진 호출(첫 요청이 실패했다면 남은 헤지 호출)은 끝까지 기다리지 않고 취소
+            boolean hedgeWon = response != null && second.result.isDone()
+                    && !second.result.isCompletedExceptionally() && second.result.join() == response;
+            (hedgeWon ? primary : second).cancel();
+            if (hedgeWon) {
+                hedge.won.increment();
+            }
+        }
+        return response;
+    }
+
+    private Call submit(Request request, Request.Options options, HedgePolicy policy) {
+        Call call = new Call(request, options, policy);
+        executor.execute(call);
+        return call;
+    }
+
+    /**
+     * Client.Default와 같지만, 헤지 호출 중에 연 HTTP 연결을 기록해 진 호출을 끊을 수 있게 함
+     */
+    public static Client cancellableDefaultClient() {
+        return new Client.Default(null, null) {
+            @Override
+            public HttpURLConnection getConnection(URL url) throws IOException {
+                HttpURLConnection connection = super.getConnection(url);
+                Call call = CURRENT_CALL.get();
+                if (call != null) {
+                    call.attach(connection);
+                }
+                return connection;
+            }
+        };
+    }
+
+    /**
+     * 같은 요청을 첫 요청과 다른 인스턴스 주소로 바꿈
+     */
+    private Request alternative(Request request, String serviceId) {
+        URI uri = URI.create(request.url());
+        List<ServiceInstance> others = discoveryClient.getInstances(serviceId).stream()
+                .filter(instance -> !(instance.getHost().equals(uri.getHost()) && instance.getPort() == uri.getPort()))
+                .toList();
+        if (others.isEmpty()) {
+            return request;
+        }
+        ServiceInstance instance = others.get(ThreadLocalRandom.current().nextInt(others.size()));
+        String url = LoadBalancerUriTools.reconstructURI(instance, uri).toString();
+        return Request.create(request.httpMethod(), url, request.headers(), request.body(), request.charset(),
+                request.requestTemplate());
+    }
+
+    private static String serviceId(Request request) {
+        return request.requestTemplate() != null && request.requestTemplate().feignTarget() != null
+                ? request.requestTemplate().feignTarget().name() : null;
+    }
+
+    private static Response await(CompletableFuture<Response> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * executor에서 실행되는 호출 한 번 (취소하면 실행 스레드를 인터럽트하고 열린 연결을 끊음)
+     */
+    private final class Call implements Runnable {
+
+        private final Request request;
+        private final Request.Options options;
+        private final HedgePolicy policy;
+        private final CompletableFuture<Response> result = new CompletableFuture<>();
+        private Thread runner;  // this로 동기화: 다른 작업을 실행 중인 스레드를 인터럽트하지 않도록
+        private volatile HttpURLConnection connection;
+
+        private Call(Request request, Request.Options options, HedgePolicy policy) {
+            this.request = request;
+            this.options = options;
+            this.policy = policy;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (result.isDone()) {
+                    return;
+                }
+                runner = Thread.currentThread();
+            }
+            CURRENT_CALL.set(this);
+            long start = System.nanoTime();
+            try {
+                Response response = delegate.execute(request, options);
+                policy.record(System.nanoTime() - start);
+                if (!result.complete(response)) {
+                    response.close();
+                }
+            } catch (IOException e) {
+                result.completeExceptionally(new UncheckedIOException(e));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            } finally {
+                CURRENT_CALL.remove();
+                synchronized (this) {
+                    runner = null;
+                }
+                Thread.interrupted();  // 취소로 받은 인터럽트가 스레드의 다음 작업에 남지 않도록
+            }
+        }
+
+        private void attach(HttpURLConnection connection) {
+            this.connection = connection;
+            if (result.isCancelled()) {
+                connection.disconnect();
+            }
+        }
+
+        private void cancel() {
+            if (!result.cancel(false)) {
+                return;  // 이미 끝난 호출의 응답은 winner 처리에서 닫힘
+            }
+            synchronized (this) {
+                if (runner != null) {
+                    runner.interrupt();
+                }
+            }
+            HttpURLConnection connection = this.connection;
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    /**
+     * 서비스 하나의 헤지 기준과 메트릭
+     */
+    private final class ServiceHedge {
+
+        private final HedgePolicy policy;
+        private final Counter sent;
+        private final Counter won;
+
+        private ServiceHedge(String serviceId) {
+            this.policy = policyFactory.apply(serviceId);
+            this.sent = Counter.builder("feign.hedge.sent")
+                    .description("Hedged requests sent to a second instance")
+                    .tag("clientName", serviceId)
+                    .register(registry);
+            this.won = Counter.builder("feign.hedge.won")
+                    .description("Hedged requests that answered before the original request")
+                    .tag("clientName", serviceId)
+                    .register(registry);
+        }
+    }
+}
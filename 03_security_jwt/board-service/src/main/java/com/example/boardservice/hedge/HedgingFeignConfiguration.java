@@ -0,0 +1,70 @@
+package com.example.boardservice.hedge;
+
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.cloud.openfeign.loadbalancer.LoadBalancerFeignRequestTransformer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * hedging.enabled=true일 때 Feign Client의 HTTP 호출 단계에 HedgingFeignClient를 끼움
+ *
+ * Spring Cloud OpenFeign 기본 설정과 같은 FeignBlockingLoadBalancerClient를 만들되,
+ * 인스턴스 선택 후 실제 호출을 맡는 delegate만 HedgingFeignClient로 바꿉니다 (로드밸런싱은 그대로).
+ * 가상 스레드 모드(spring.threads.virtual.enabled, Java 21 이상)에서는 헤지 호출도 가상 스레드에서 실행합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "hedging.enabled", havingValue = "true")
+public class HedgingFeignConfiguration {
+
+    @Bean
+    public Client feignClient(LoadBalancerClient loadBalancerClient, LoadBalancerClientFactory loadBalancerClientFactory,
+                              List<LoadBalancerFeignRequestTransformer> transformers, DiscoveryClient discoveryClient,
+                              MeterRegistry registry, Environment environment,
+                              @Value("${hedging.services:member-service}") Set<String> services,
+                              @Value("${hedging.delay-percentile:0.95}") double delayPercentile,
+                              @Value("${hedging.min-delay:PT0.01S}") Duration minDelay,
+                              @Value("${hedging.max-delay:PT1S}") Duration maxDelay,
+                              @Value("${hedging.budget-percent:10}") double budgetPercent,
+                              @Value("${hedging.max-threads:200}") int maxThreads) {
+        HedgingFeignClient hedging = new HedgingFeignClient(HedgingFeignClient.cancellableDefaultClient(), discoveryClient, services,
+                serviceId -> new HedgePolicy(delayPercentile, minDelay, maxDelay, budgetPercent),
+                executor(environment, maxThreads), registry);
+        return new FeignBlockingLoadBalancerClient(hedging, loadBalancerClient, loadBalancerClientFactory, transformers);
+    }
+
+    /**
+     * 호출 대기열 없이 최대 maxThreads개까지 스레드를 만들고, 60초 동안 쓰이지 않은 스레드는 종료
+     * (데몬 스레드이므로 애플리케이션 종료를 막지 않음)
+     * 가상 스레드 모드에서는 호출마다 가상 스레드 (maxThreads 제한 없음, 헤지 수는 budget-percent로 제한)
+     */
+    private static Executor executor(Environment environment, int maxThreads) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor("feign-hedge-");
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(0, maxThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "feign-hedge-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.boardservice.resilience;
+
+import org.springframework.cloud.openfeign.CircuitBreakerNameResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign Client 서킷 브레이커 / 벌크헤드 이름 규칙
+ *
+ * 기본값은 메서드마다 따로 만들어지지만(MemberServiceClientgetMemberString),
+ * 장애는 메서드가 아니라 대상 서비스 단위로 나므로 Feign Client 이름(member-service) 하나로 묶습니다.
+ * → application.yml의 resilience4j.*.instances.member-service 설정이 모든 메서드에 적용됨
+ */
+@Configuration
+public class CircuitBreakerConfiguration {
+
+    @Bean
+    public CircuitBreakerNameResolver circuitBreakerNameResolver() {
+        return (feignClientName, target, method) -> feignClientName;
+    }
+}
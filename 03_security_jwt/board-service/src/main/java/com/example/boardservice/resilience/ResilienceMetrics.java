@@ -0,0 +1,71 @@
+package com.example.boardservice.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서킷 브레이커 상태 전환과 호출 거부 횟수
+ *
+ * Resilience4j 기본 메트릭(resilience4j.circuitbreaker.state, resilience4j.circuitbreaker.calls,
+ * resilience4j.bulkhead.available.concurrent.calls 등)은 현재 상태만 보여 주므로,
+ * 언제 몇 번 열리고 닫혔는지와 어떤 이유로 호출을 거부했는지를 카운터로 추가합니다.
+ * - feign.circuitbreaker.transitions: 상태 전환 횟수 (name, from, to)
+ * - feign.circuitbreaker.rejections:  실행하지 않고 대체 응답으로 넘긴 호출 수
+ *                                     (reason = circuit_open / bulkhead_full)
+ */
+@Component
+public class ResilienceMetrics implements MeterBinder {
+
+    public static final String TRANSITIONS_COUNTER = "feign.circuitbreaker.transitions";
+    public static final String REJECTIONS_COUNTER = "feign.circuitbreaker.rejections";
+
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+
+    public ResilienceMetrics(CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads) {
+        this.circuitBreakers = circuitBreakers;
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // 서킷 브레이커/벌크헤드는 첫 호출 때 만들어지므로 이미 있는 것과 이후 추가되는 것 모두 등록
+        circuitBreakers.getAllCircuitBreakers().forEach(circuitBreaker -> bind(registry, circuitBreaker));
+        circuitBreakers.getEventPublisher().onEntryAdded(event -> bind(registry, event.getAddedEntry()));
+        bulkheads.getAllBulkheads().forEach(bulkhead -> bind(registry, bulkhead));
+        bulkheads.getEventPublisher().onEntryAdded(event -> bind(registry, event.getAddedEntry()));
+    }
+
+    private static void bind(MeterRegistry registry, CircuitBreaker circuitBreaker) {
+        String name = circuitBreaker.getName();
+        Counter rejected = rejections(registry, name, "circuit_open");
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> Counter.builder(TRANSITIONS_COUNTER)
+                        .description("Circuit breaker state transitions")
+                        .tag("name", name)
+                        .tag("from", event.getStateTransition().getFromState().name())
+                        .tag("to", event.getStateTransition().getToState().name())
+                        .register(registry)
+                        .increment())
+                .onCallNotPermitted(event -> rejected.increment());
+    }
+
+    private static void bind(MeterRegistry registry, Bulkhead bulkhead) {
+        Counter rejected = rejections(registry, bulkhead.getName(), "bulkhead_full");
+        bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+    }
+
+    private static Counter rejections(MeterRegistry registry, String name, String reason) {
+        return Counter.builder(REJECTIONS_COUNTER)
+                .description("Calls rejected without reaching the remote service")
+                .tag("name", name)
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.boardservice.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * X-USER-ID / X-USER-ROLE 헤더를 게이트웨이의 서명(X-USER-ASSERTION)이 확인된 경우에만 믿도록 하는 필터
+ *
+ * 게이트웨이를 거치지 않고 서비스에 직접 요청하면 X-USER-ID를 마음대로 넣을 수 있으므로,
+ * 컨트롤러가 읽는 X-USER-ID / X-USER-ROLE은 항상 이 필터가 검증한 값으로 바꿉니다.
+ * - 서명이 맞고 만료되지 않음: 서명된 회원 ID / 역할을 헤더 값으로 제공
+ * - 서명 헤더 없음: 익명 요청으로 보고 X-USER-ID / X-USER-ROLE을 숨김 (요청자가 필요한 API는 400)
+ * - 서명이 틀리거나 만료됨: 401
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class IdentityAssertionFilter extends OncePerRequestFilter {
+
+    static final String USER_ID_HEADER = "X-USER-ID";
+    static final String USER_ROLE_HEADER = "X-USER-ROLE";
+
+    private final IdentityAssertion identityAssertion;
+
+    @Autowired
+    public IdentityAssertionFilter(@Value("${identity-assertion.secret}") String secret,
+                                   @Value("${identity-assertion.clock-skew:PT5S}") Duration clockSkew) {
+        this(new IdentityAssertion(secret, clockSkew));
+    }
+
+    IdentityAssertionFilter(IdentityAssertion identityAssertion) {
+        this.identityAssertion = identityAssertion;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String assertion = request.getHeader(IdentityAssertion.HEADER);
+        IdentityAssertion.Identity identity = null;
+        if (assertion != null) {
+            identity = identityAssertion.verify(assertion);
+            if (identity == null) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+        }
+        chain.doFilter(new VerifiedIdentityRequest(request, identity), response);
+    }
+
+    /**
+     * X-USER-ID / X-USER-ROLE만 검증된 값으로 바꾼 요청 (identity가 null이면 두 헤더 없음)
+     */
+    private static final class VerifiedIdentityRequest extends HttpServletRequestWrapper {
+
+        private final IdentityAssertion.Identity identity;
+
+        private VerifiedIdentityRequest(HttpServletRequest request, IdentityAssertion.Identity identity) {
+            super(request);
+            this.identity = identity;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (USER_ID_HEADER.equalsIgnoreCase(name)) {
+                return identity != null ? identity.memberId() : null;
+            }
+            if (USER_ROLE_HEADER.equalsIgnoreCase(name)) {
+                return identity != null ? identity.role() : null;
+            }
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (USER_ID_HEADER.equalsIgnoreCase(name) || USER_ROLE_HEADER.equalsIgnoreCase(name)) {
+                String value = getHeader(name);
+                return value != null ? Collections.enumeration(List.of(value)) : Collections.emptyEnumeration();
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !USER_ID_HEADER.equalsIgnoreCase(name) && !USER_ROLE_HEADER.equalsIgnoreCase(name))
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if (identity != null) {
+                names.add(USER_ID_HEADER);
+                if (identity.role() != null) {
+                    names.add(USER_ROLE_HEADER);
+                }
+            }
+            return Collections.enumeration(names);
+        }
+    }
+}
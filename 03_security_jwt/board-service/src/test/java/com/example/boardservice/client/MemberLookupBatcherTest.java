@@ -0,0 +1,106 @@
+package com.example.boardservice.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberLookupBatcherTest {
+
+    private final List<List<String>> calls = new ArrayList<>();
+
+    private final MemberServiceClient client = new MemberServiceClient() {
+        @Override
+        public String getMember(String id) {
+            throw new AssertionError("단건 조회를 호출하면 안 됨");
+        }
+
+        @Override
+        public Map<String, String> getMembers(List<String> ids) {
+            calls.add(ids);
+            Map<String, String> members = new LinkedHashMap<>();
+            for (String id : ids) {
+                if (!id.startsWith("missing")) {
+                    members.put(id, "회원 " + id);
+                }
+            }
+            return members;
+        }
+    };
+
+    @Test
+    void lookupsInOneRequestAreSentAsOneCall() {
+        MemberLookupBatcher batcher = new MemberLookupBatcher(client, 100);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add("user" + (i % 20));
+        }
+
+        Map<String, String> members = batcher.getAll(ids);
+
+        assertEquals(1, calls.size());
+        assertEquals(20, calls.get(0).size());  // 중복 ID는 한 번만
+        assertEquals(20, members.size());
+        assertEquals("회원 user3", members.get("user3"));
+    }
+
+    @Test
+    void alreadyLoadedIdsAreNotRequestedAgain() {
+        MemberLookupBatcher batcher = new MemberLookupBatcher(client, 100);
+        CompletableFuture<String> first = batcher.load("user1");
+        batcher.dispatch();
+
+        assertSame(first, batcher.load("user1"));
+        batcher.dispatch();
+
+        assertEquals(1, calls.size());
+        assertEquals("회원 user1", first.join());
+    }
+
+    @Test
+    void batchesAreSplitAtMaxBatchSize() {
+        MemberLookupBatcher batcher = new MemberLookupBatcher(client, 10);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            ids.add("user" + i);
+        }
+
+        assertEquals(25, batcher.getAll(ids).size());
+        assertEquals(List.of(10, 10, 5), calls.stream().map(List::size).toList());
+    }
+
+    @Test
+    void missingMembersGetPlaceholder() {
+        MemberLookupBatcher batcher = new MemberLookupBatcher(client, 100);
+
+        Map<String, String> members = batcher.getAll(List.of("user1", "missing1"));
+
+        assertEquals("회원 정보 없음 (id=missing1)", members.get("missing1"));
+    }
+
+    @Test
+    void failedCallCompletesPendingLookupsExceptionally() {
+        MemberServiceClient failing = new MemberServiceClient() {
+            @Override
+            public String getMember(String id) {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public Map<String, String> getMembers(List<String> ids) {
+                throw new IllegalStateException("down");
+            }
+        };
+        MemberLookupBatcher batcher = new MemberLookupBatcher(failing, 100);
+        CompletableFuture<String> member = batcher.load("user1");
+
+        assertThrows(IllegalStateException.class, batcher::dispatch);
+        assertThrows(CompletionException.class, member::join);
+    }
+}
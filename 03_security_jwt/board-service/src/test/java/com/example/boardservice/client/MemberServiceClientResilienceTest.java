@@ -0,0 +1,63 @@
+package com.example.boardservice.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Member Service가 응답하지 않을 때(연결 거부) 대체 응답, 서킷 열림, 메트릭 확인
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.client.simple.instances.member-service[0].uri=http://localhost:1"
+})
+class MemberServiceClientResilienceTest {
+
+    @Autowired
+    private MemberServiceClient memberServiceClient;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakers;
+
+    @Autowired
+    private BulkheadRegistry bulkheads;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void failingMemberServiceDegradesAndOpensCircuit() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(memberServiceClient.getMember("7").startsWith("회원 정보 없음 (id=7, Member Service 호출 실패"));
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker("member-service");
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals("회원 정보 없음 (id=7, Member Service 서킷 열림)", memberServiceClient.getMember("7"));
+
+        assertEquals(1, registry.get("feign.circuitbreaker.transitions")
+                .tag("name", "member-service").tag("from", "CLOSED").tag("to", "OPEN").counter().count());
+        assertEquals(1, registry.get("feign.circuitbreaker.rejections")
+                .tag("name", "member-service").tag("reason", "circuit_open").counter().count());
+        assertEquals(Map.of("7", "회원 정보 없음 (id=7, Member Service 서킷 열림)",
+                        "8", "회원 정보 없음 (id=8, Member Service 서킷 열림)"),
+                memberServiceClient.getMembers(List.of("7", "8")));
+
+        // registry.bulkhead(name)는 없으면 새로 만들므로, 실제 호출이 거친 벌크헤드인지 먼저 확인한 뒤 설정을 읽음
+        Bulkhead bulkhead = bulkheads.getAllBulkheads().stream()
+                .filter(candidate -> candidate.getName().equals("member-service"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("member-service 호출이 벌크헤드를 거치지 않음"));
+        assertEquals(20, bulkhead.getBulkheadConfig().getMaxConcurrentCalls());
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.boardservice.hedge;
+
+import com.example.boardservice.client.MemberServiceClient;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgingFeignClientTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    private final DiscoveryClient discoveryClient = new DiscoveryClient() {
+        @Override
+        public String description() {
+            return "test";
+        }
+
+        @Override
+        public List<ServiceInstance> getInstances(String serviceId) {
+            return List.of(new DefaultServiceInstance("member-1", serviceId, "localhost", 8081, false),
+                    new DefaultServiceInstance("member-2", serviceId, "localhost", 8083, false));
+        }
+
+        @Override
+        public List<String> getServices() {
+            return List.of("member-service");
+        }
+    };
+
+    // 8081 인스턴스는 GC로 멈춘 것처럼 2초 뒤에 응답
+    private final Client upstream = (request, options) -> {
+        int port = URI.create(request.url()).getPort();
+        if (port == 8081) {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+        }
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.of())
+                .body("member from " + port, StandardCharsets.UTF_8)
+                .build();
+    };
+
+    private HedgingFeignClient client(double budgetPercent) {
+        return new HedgingFeignClient(upstream, discoveryClient, Set.of("member-service"),
+                serviceId -> new HedgePolicy(0.95, Duration.ofMillis(20), Duration.ofMillis(50), budgetPercent),
+                Executors.newCachedThreadPool(), registry);
+    }
+
+    @Test
+    void stalledInstanceIsHedgedToAnotherInstance() throws Exception {
+        long start = System.nanoTime();
+        Response response = client(100).execute(request(Request.HttpMethod.GET, 8081), new Request.Options());
+
+        assertEquals("member from 8083", body(response));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1, registry.get("feign.hedge.sent").counter().count());
+        assertEquals(1, registry.get("feign.hedge.won").counter().count());
+        // 진 호출(멈춘 8081)은 2초를 다 기다리지 않고 취소되어 스레드를 반환
+        assertTrue(interrupted.await(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void hedgingRespectsBudgetAndMethod() throws Exception {
+        HedgingFeignClient client = client(0);
+        assertEquals("member from 8081", body(client.execute(request(Request.HttpMethod.GET, 8081), new Request.Options())));
+        assertEquals("member from 8081", body(client(100).execute(request(Request.HttpMethod.POST, 8081), new Request.Options())));
+        assertEquals(0, registry.get("feign.hedge.sent").counter().count());
+    }
+
+    private static Request request(Request.HttpMethod method, int port) {
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(MemberServiceClient.class, "member-service", "http://member-service"));
+        return Request.create(method, "http://localhost:" + port + "/members/1", Map.of(), null, StandardCharsets.UTF_8, template);
+    }
+
+    private static String body(Response response) throws Exception {
+        try (response) {
+            return new String(response.body().asInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
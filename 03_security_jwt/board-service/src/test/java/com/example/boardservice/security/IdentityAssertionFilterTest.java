@@ -0,0 +1,76 @@
+package com.example.boardservice.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityAssertionFilterTest {
+
+    private static final String SECRET = "internal-identity-secret-0123456789abcdef";
+    // api-gateway IdentityAssertionSignerTest가 만드는 값 (testuser / USER, 1700000030 만료)
+    private static final String ASSERTION = "v1.dGVzdHVzZXI.VVNFUg.1700000030.MZ2TsrlBYiUU5OsafRMkpRJIQPg_sUUyRS0NicZEz8s";
+
+    private long nowMillis = 1_700_000_010_000L;
+    private final IdentityAssertionFilter filter = new IdentityAssertionFilter(
+            new IdentityAssertion(SECRET, Duration.ofSeconds(5), () -> nowMillis));
+
+    @Test
+    void verifiedIdentityReplacesForwardedHeaders() throws Exception {
+        MockHttpServletRequest request = request(ASSERTION);
+        request.addHeader("X-USER-ID", "admin");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertEquals("testuser", forwarded.getHeader("X-USER-ID"));
+        assertEquals("USER", forwarded.getHeader("x-user-role"));
+        assertEquals(1, Collections.list(forwarded.getHeaders("X-USER-ID")).size());
+    }
+
+    @Test
+    void unsignedIdentityHeadersAreHidden() throws Exception {
+        MockHttpServletRequest request = request(null);
+        request.addHeader("X-USER-ID", "admin");
+        request.addHeader("X-USER-ROLE", "ADMIN");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertNull(forwarded.getHeader("X-USER-ID"));
+        assertNull(forwarded.getHeader("X-USER-ROLE"));
+        assertFalse(Collections.list(forwarded.getHeaderNames()).contains("X-USER-ID"));
+    }
+
+    @Test
+    void tamperedOrExpiredAssertionIsRejected() throws Exception {
+        assertEquals(401, status(ASSERTION.replace("dGVzdHVzZXI", "YWRtaW4")));  // 회원 ID를 admin으로 변경
+        assertEquals(401, status("v1.garbage"));
+        nowMillis = 1_700_000_036_000L;  // 만료 + 허용 오차 5초 초과
+        assertEquals(401, status(ASSERTION));
+    }
+
+    private int status(String assertion) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request(assertion), response, chain);
+        assertNull(chain.getRequest());
+        return response.getStatus();
+    }
+
+    private static MockHttpServletRequest request(String assertion) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards/1");
+        if (assertion != null) {
+            request.addHeader(IdentityAssertion.HEADER, assertion);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.memberservice.config;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.repository.MemberRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 데모용 테스트 계정(testuser / password123) 등록
+ *
+ * 비밀번호는 등록할 때 한 번만 BCrypt로 해시해 저장합니다.
+ * 이미 있으면(파일 DB로 재시작한 경우 등) 그대로 둡니다.
+ */
+@Component
+public class MemberDataInitializer implements ApplicationRunner {
+
+    private final MemberRepository memberRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    public MemberDataInitializer(MemberRepository memberRepository, PasswordEncoder passwordEncoder) {
+        this.memberRepository = memberRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!memberRepository.existsById("testuser")) {
+            memberRepository.save(new Member("testuser", passwordEncoder.encode("password123"), "USER",
+                    "테스트 사용자", "test@example.com"));
+        }
+    }
+}
@@ -1,31 +1,61 @@
 package com.example.memberservice.config;
 
+import com.example.memberservice.security.IdentityAssertion;
+import com.example.memberservice.security.IdentityAssertionFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+
+import java.time.Duration;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /**
+     * BCrypt 작업 계수(strength): 1 올릴 때마다 해시 시간이 두 배
+     * 바꾸면 기존 회원의 해시는 다음 로그인 때 새 계수로 교체됨 (PasswordHashingService)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${member.password-hashing.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
+    /**
+     * 요청자는 게이트웨이가 서명한 X-USER-ASSERTION으로만 확인 (IdentityAssertionFilter, HMAC 한 번)
+     *
+     * 세션/로그인 페이지/요청 캐시를 쓰지 않으므로 해당 필터를 빼서 요청마다 거치는 필터 수를 줄입니다.
+     * (SecurityContext 저장·복원, 익명 인증, 요청 캐시, 로그아웃, Servlet API 연동 필터 제외)
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${identity-assertion.secret}") String identitySecret,
+                                           @Value("${identity-assertion.clock-skew:PT5S}") Duration clockSkew) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .securityContext(AbstractHttpConfigurer::disable)
+            .anonymous(AbstractHttpConfigurer::disable)
+            .requestCache(AbstractHttpConfigurer::disable)
+            .logout(AbstractHttpConfigurer::disable)
+            .servletApi(AbstractHttpConfigurer::disable)
+            .addFilterBefore(new IdentityAssertionFilter(new IdentityAssertion(identitySecret, clockSkew)),
+                    AuthorizationFilter.class)
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/members/login", "/members/register", "/members/health", "/login", "/register", "/health").permitAll()
+                .requestMatchers("/members/login", "/members/refresh", "/members/register", "/members/health", "/login", "/register", "/health").permitAll()
+                // 폐기 기록은 게이트웨이(RevocationSync)만 조회: 게이트웨이 역할로 서명된 X-USER-ASSERTION 필요
+                .requestMatchers("/members/revocations", "/members/revocations/**").hasRole("GATEWAY")
                 .requestMatchers("/members/**").permitAll()  // 서비스 간 통신 허용
+                .requestMatchers("/.well-known/jwks.json").permitAll()  // 공개키 목록 (비대칭 키 모드)
+                .requestMatchers("/actuator/health", "/actuator/metrics/**").permitAll()  // 비밀번호 검증 대기열 등 메트릭
                 .anyRequest().authenticated()
             );
         
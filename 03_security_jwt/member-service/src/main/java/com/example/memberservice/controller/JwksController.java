@@ -0,0 +1,36 @@
+package com.example.memberservice.controller;
+
+import com.example.memberservice.util.JwtAsymmetricKeys;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * JWKS(JSON Web Key Set) 엔드포인트 - 비대칭 키 모드에서만 활성화
+ *
+ * API Gateway는 이 엔드포인트에서 공개키를 한 번 받아 메모리에 보관하고,
+ * 처음 보는 kid의 토큰이 들어왔을 때만 다시 조회합니다.
+ * (요청마다 호출하지 않으므로 검증은 게이트웨이 내부에서만 이루어짐)
+ */
+@RestController
+@ConditionalOnProperty(name = "jwt.mode", havingValue = "asymmetric")
+public class JwksController {
+
+    private final JwtAsymmetricKeys asymmetricKeys;
+
+    public JwksController(JwtAsymmetricKeys asymmetricKeys) {
+        this.asymmetricKeys = asymmetricKeys;
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(asymmetricKeys.jwksJson());
+    }
+}
@@ -2,12 +2,37 @@ package com.example.memberservice.controller;
 
 import com.example.memberservice.dto.LoginRequest;
 import com.example.memberservice.dto.LoginResponse;
+import com.example.memberservice.dto.RefreshRequest;
+import com.example.memberservice.dto.RevocationResponse;
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.repository.MemberRepository;
+import com.example.memberservice.service.CustomUserDetailsService;
+import com.example.memberservice.service.PasswordHashingService;
+import com.example.memberservice.service.PasswordHashingService.PasswordHashingBusyException;
+import com.example.memberservice.service.RefreshTokenStore;
+import com.example.memberservice.service.RevocationStore;
 import com.example.memberservice.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * MSA 핵심 개념 4: REST API 설계
  * 
@@ -28,7 +53,22 @@ public class MemberController {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private RevocationStore revocationStore;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Value("${member.batch-lookup.max-ids:500}")
+    private int batchLookupMaxIds;
 
     /**
      * 회원 정보 조회 API
@@ -37,6 +77,40 @@ public class MemberController {
     @GetMapping("/{id}")
     public String getMember(@PathVariable String id,
                            @RequestHeader(value = "X-USER-ID", required = false) String currentUserId) {
+        return memberInfo(id, currentUserId);
+    }
+
+    /**
+     * 회원 정보 여러 건 조회 API (한 번의 호출로 N건)
+     * 예: GET /members?ids=testuser&ids=user2 (또는 ids=testuser,user2) → {"testuser": "..."}
+     *
+     * 게시글 목록처럼 작성자 정보가 여러 건 필요할 때 회원마다 GET /members/{id}를 호출하면
+     * 목록 크기만큼 왕복이 생기므로(N+1), Board Service는 이 API로 한 번에 조회합니다.
+     * 회원 저장소를 기본키 IN 조회 한 번(findAllById)으로 읽고, 응답은 요청한 순서를 유지하며 중복 ID는 한 번만 담습니다.
+     * 없는 회원은 응답에 담지 않습니다. max-ids를 넘으면 400.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<Map<String, String>> getMembers(@RequestParam List<String> ids) {
+        if (ids.size() > batchLookupMaxIds) {
+            return ResponseEntity.badRequest().build();
+        }
+        Set<String> distinctIds = new LinkedHashSet<>(ids);
+        Map<String, Member> found = new HashMap<>();
+        for (Member member : memberRepository.findAllById(distinctIds)) {
+            found.put(member.getMemberId(), member);
+        }
+        Map<String, String> members = new LinkedHashMap<>();
+        for (String id : distinctIds) {
+            Member member = found.get(id);
+            if (member != null) {
+                // 비밀번호 해시, 이메일은 내보내지 않음
+                members.put(id, "Member Service: 회원 ID " + id + " (이름: " + member.getName() + ", 역할: " + member.getRole() + ")");
+            }
+        }
+        return ResponseEntity.ok(members);
+    }
+
+    private static String memberInfo(String id, String currentUserId) {
         // 실제 프로덕션에서는 데이터베이스에서 회원 정보를 조회
         if (currentUserId != null) {
             return "Member Service: 사용자 " + currentUserId + "가 회원 ID " + id + "의 정보를 조회했습니다.";
@@ -80,27 +154,108 @@ public class MemberController {
     /**
      * 로그인 API - JWT 토큰 발급
      * 사용자 인증 후 Access Token과 Refresh Token을 발급합니다.
+     *
+     * 비밀번호 검증(BCrypt)은 PasswordHashingService의 전용 스레드 풀에서 실행되고,
+     * 그동안 요청 스레드는 반납됩니다. 검증 스레드 풀이 가득 차면 503 + Retry-After로 바로 응답합니다.
      */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest loginRequest) {
-        // 실제 프로덕션에서는 데이터베이스에서 사용자 정보를 조회하여 검증
-        // 여기서는 데모용으로 간단한 하드코딩된 검증을 사용
-        String memberId = loginRequest.getMemberId();
-        String password = loginRequest.getPassword();
-        
-        // 간단한 테스트용 계정 검증 (실제로는 DB에서 조회)
-        if ("testuser".equals(memberId) && "password123".equals(password)) {
-            String role = "USER"; // 실제로는 DB에서 조회된 사용자의 역할
-            
-            // JWT 토큰 생성
-            String accessToken = jwtUtil.generateAccessToken(memberId, role);
-            String refreshToken = jwtUtil.generateRefreshToken(memberId);
-            
-            LoginResponse response = new LoginResponse(memberId, accessToken, refreshToken, role);
-            return ResponseEntity.ok(response);
-        } else {
-            return ResponseEntity.status(401).build(); // 인증 실패
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@RequestBody LoginRequest loginRequest) {
+        // 회원 저장소에서 조회한 BCrypt 해시로 비밀번호 검증 (memberId 또는 이메일로 로그인)
+        if (loginRequest.getMemberId() == null || loginRequest.getPassword() == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(401).build());
+        }
+        return passwordHashingService.authenticate(loginRequest.getMemberId(), loginRequest.getPassword())
+                .<ResponseEntity<LoginResponse>>thenApply(user -> user != null
+                        ? ResponseEntity.ok(issueTokens(user, UUID.randomUUID().toString()))  // 새 로그인 세션(family)
+                        : ResponseEntity.status(401).build())  // 인증 실패
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof PasswordHashingBusyException) {
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .build();
+                    }
+                    throw e instanceof CompletionException ce ? ce : new CompletionException(e);
+                });
+    }
+
+    /**
+     * 토큰 갱신 API - Refresh Token으로 새 Access Token + Refresh Token 발급
+     *
+     * Refresh Token은 한 번만 사용할 수 있습니다(rotation). 이미 사용한 Refresh Token이 다시 오면
+     * 탈취된 것으로 보고 그 로그인 세션의 Refresh Token을 모두 폐기하므로, 다시 로그인해야 합니다.
+     * 비밀번호 검증이 없으므로 Access Token 만료 때마다 로그인하는 것보다 훨씬 가볍습니다.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(@RequestBody RefreshRequest refreshRequest) {
+        if (refreshRequest.getRefreshToken() == null) {
+            return ResponseEntity.status(401).build();
+        }
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(refreshRequest.getRefreshToken());
+        } catch (JwtException | IllegalArgumentException e) {
+            return ResponseEntity.status(401).build();  // 서명 불일치, 만료
+        }
+        String family = claims.get("fam", String.class);
+        if (!"refresh".equals(claims.get("type", String.class)) || claims.getId() == null || family == null) {
+            return ResponseEntity.status(401).build();
+        }
+        if (refreshTokenStore.rotate(claims.getId(), family) != RefreshTokenStore.Rotation.ROTATED) {
+            return ResponseEntity.status(401).build();  // 재사용(세션 폐기됨), 로그아웃, 또는 알 수 없는 토큰
         }
+        UserDetails user;
+        try {
+            user = userDetailsService.loadUserByUsername(claims.getSubject());  // 현재 역할 반영, 탈퇴 회원 거부
+        } catch (UsernameNotFoundException e) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(issueTokens(user, family));
+    }
+
+    private LoginResponse issueTokens(UserDetails user, String family) {
+        String memberId = user.getUsername();
+        String role = user.getAuthorities().iterator().next().getAuthority().substring("ROLE_".length());
+
+        // JWT 토큰 생성 (Refresh Token은 사용 가능 목록에 기록)
+        String accessToken = jwtUtil.generateAccessToken(memberId, role, family);
+        JwtUtil.RefreshToken refreshToken = jwtUtil.issueRefreshToken(memberId, family);
+        refreshTokenStore.register(refreshToken.tokenId(), family, refreshToken.expiresAtMillis());
+
+        return new LoginResponse(memberId, accessToken, refreshToken.token(), role);
+    }
+
+    /**
+     * 로그아웃 API - Access Token 폐기
+     * 토큰의 jti를 폐기 목록에 기록하며, API Gateway는 다음 동기화 주기부터 이 토큰을 거부합니다.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        if (!authorization.startsWith("Bearer ")) {
+            return ResponseEntity.status(401).build();
+        }
+        try {
+            Claims claims = jwtUtil.parseClaims(authorization.substring(7));
+            if (claims.getId() != null) {
+                revocationStore.revoke(claims.getId(), claims.getExpiration().getTime());
+            }
+            String family = claims.get("fam", String.class);
+            if (family != null) {
+                refreshTokenStore.revokeFamily(family);  // 같은 로그인 세션의 Refresh Token도 사용 불가
+            }
+            return ResponseEntity.noContent().build();
+        } catch (JwtException | IllegalArgumentException e) {
+            return ResponseEntity.status(401).build();
+        }
+    }
+
+    /**
+     * 폐기 토큰 동기화 API - API Gateway가 주기적으로 호출
+     * 예: GET /members/revocations?since=120 → 121번 이후 폐기 기록
+     */
+    @GetMapping("/revocations")
+    public RevocationResponse revocations(@RequestParam(defaultValue = "0") long since) {
+        return revocationStore.since(since);
     }
 
     /**
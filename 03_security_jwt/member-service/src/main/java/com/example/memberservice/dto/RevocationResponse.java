@@ -0,0 +1,16 @@
+package com.example.memberservice.dto;
+
+import java.util.List;
+
+/**
+ * 폐기 토큰 동기화 응답 (API Gateway가 주기적으로 조회)
+ *
+ * @param epoch    Member Service 인스턴스 식별자 (재시작 시 바뀜)
+ * @param sequence 이번 응답에 포함된 마지막 순번 (다음 조회 시 since로 전달)
+ * @param revoked  폐기된 토큰 목록
+ */
+public record RevocationResponse(String epoch, long sequence, List<RevokedToken> revoked) {
+
+    public record RevokedToken(String jti, long expiresAtMillis) {
+    }
+}
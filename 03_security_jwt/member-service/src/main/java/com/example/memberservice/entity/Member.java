@@ -1,10 +1,33 @@
 package com.example.memberservice.entity;
 
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * 회원 (members 테이블)
+ *
+ * memberId는 기본키, email은 고유 인덱스로 조회합니다.
+ * password에는 BCrypt 해시를 저장합니다. (원문 비밀번호는 저장하지 않음)
+ */
+@Entity
+@Table(name = "members", indexes = @Index(name = "ux_members_email", columnList = "email", unique = true))
 public class Member {
+    @Id
+    @Column(length = 64)
     private String memberId;
+
+    @Column(nullable = false, length = 100)
     private String password;
+
+    @Column(nullable = false, length = 20)
     private String role;
+
     private String name;
+
+    @Column(nullable = false)
     private String email;
 
     public Member() {}
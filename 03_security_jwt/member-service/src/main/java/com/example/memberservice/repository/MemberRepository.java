@@ -0,0 +1,14 @@
+package com.example.memberservice.repository;
+
+import com.example.memberservice.entity.Member;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * 회원 저장소: memberId(기본키) / email(고유 인덱스) 조회
+ */
+public interface MemberRepository extends JpaRepository<Member, String> {
+
+    Optional<Member> findByEmail(String email);
+}
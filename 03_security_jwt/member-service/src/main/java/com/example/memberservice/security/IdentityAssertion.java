@@ -0,0 +1,91 @@
+package com.example.memberservice.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.LongSupplier;
+
+/**
+ * API Gateway가 붙인 내부 신원 확인 헤더(X-USER-ASSERTION) 검증
+ *
+ * 형식: v1.{base64url(회원 ID)}.{base64url(역할)}.{만료 epoch 초}.{base64url(HMAC-SHA256)}
+ * 게이트웨이가 JWT 검증을 마친 결과를 identity-assertion.secret으로 서명한 값이므로,
+ * 서비스에서는 JWT를 다시 파싱하지 않고 HMAC 한 번과 만료 시각 비교만으로 요청자를 확인합니다.
+ */
+public class IdentityAssertion {
+
+    public static final String HEADER = "X-USER-ASSERTION";
+    private static final String VERSION = "v1";
+    private static final Base64.Decoder BASE64URL = Base64.getUrlDecoder();
+
+    /**
+     * 검증된 요청자
+     */
+    public record Identity(String memberId, String role) {
+    }
+
+    private final SecretKeySpec key;
+    private final long clockSkewSeconds;
+    private final LongSupplier millisClock;
+    // Mac은 스레드 안전하지 않으므로 요청 스레드마다 하나씩 사용
+    private final ThreadLocal<Mac> macs;
+
+    public IdentityAssertion(String secret, Duration clockSkew) {
+        this(secret, clockSkew, System::currentTimeMillis);
+    }
+
+    IdentityAssertion(String secret, Duration clockSkew, LongSupplier millisClock) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < 32) {
+            throw new IllegalArgumentException("identity-assertion.secret must be at least 32 bytes");
+        }
+        this.key = new SecretKeySpec(secretBytes, "HmacSHA256");
+        this.clockSkewSeconds = clockSkew.toSeconds();
+        this.millisClock = millisClock;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 서명과 만료를 확인하고 요청자를 반환 (형식 오류, 서명 불일치, 만료 시 null)
+     */
+    public Identity verify(String assertion) {
+        int macStart = assertion.lastIndexOf('.');
+        if (macStart < 0) {
+            return null;
+        }
+        String signed = assertion.substring(0, macStart);
+        String[] parts = signed.split("\\.", -1);
+        if (parts.length != 4 || !VERSION.equals(parts[0])) {
+            return null;
+        }
+        try {
+            byte[] expected = macs.get().doFinal(signed.getBytes(StandardCharsets.UTF_8));
+            if (!MessageDigest.isEqual(expected, BASE64URL.decode(assertion.substring(macStart + 1)))) {
+                return null;
+            }
+            if (millisClock.getAsLong() / 1000 > Long.parseLong(parts[3]) + clockSkewSeconds) {
+                return null;
+            }
+            String role = new String(BASE64URL.decode(parts[2]), StandardCharsets.UTF_8);
+            return new Identity(new String(BASE64URL.decode(parts[1]), StandardCharsets.UTF_8),
+                    role.isEmpty() ? null : role);
+        } catch (IllegalArgumentException e) {
+            // base64url 또는 숫자 형식 오류
+            return null;
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
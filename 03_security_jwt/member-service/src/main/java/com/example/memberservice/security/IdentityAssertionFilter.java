@@ -0,0 +1,111 @@
+package com.example.memberservice.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 게이트웨이의 서명(X-USER-ASSERTION)으로 요청자를 확인하는 Spring Security 필터
+ *
+ * 요청자 확인은 HMAC 한 번으로 끝나며(JWT 파싱 없음), 확인된 요청자는 SecurityContext에 인증 정보로 넣습니다.
+ * - 서명이 맞고 만료되지 않음: 서명된 회원 ID / 역할로 인증, 컨트롤러가 읽는 X-USER-ID / X-USER-ROLE도 이 값으로 제공
+ * - 서명 헤더 없음: 인증 없이 진행, X-USER-ID / X-USER-ROLE은 숨김 (게이트웨이를 거치지 않은 위조 방지)
+ * - 서명이 틀리거나 만료됨: 401
+ *
+ * 세션과 SecurityContext 저장을 쓰지 않으므로(SecurityConfig) 요청이 끝나면 여기서 SecurityContext를 비웁니다.
+ */
+public class IdentityAssertionFilter extends OncePerRequestFilter {
+
+    static final String USER_ID_HEADER = "X-USER-ID";
+    static final String USER_ROLE_HEADER = "X-USER-ROLE";
+
+    private final IdentityAssertion identityAssertion;
+
+    public IdentityAssertionFilter(IdentityAssertion identityAssertion) {
+        this.identityAssertion = identityAssertion;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String assertion = request.getHeader(IdentityAssertion.HEADER);
+        IdentityAssertion.Identity identity = null;
+        if (assertion != null) {
+            identity = identityAssertion.verify(assertion);
+            if (identity == null) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(new PreAuthenticatedAuthenticationToken(identity.memberId(), null,
+                    identity.role() != null ? List.of(new SimpleGrantedAuthority("ROLE_" + identity.role())) : List.of()));
+            SecurityContextHolder.setContext(context);
+        }
+        try {
+            chain.doFilter(new VerifiedIdentityRequest(request, identity), response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * X-USER-ID / X-USER-ROLE만 검증된 값으로 바꾼 요청 (identity가 null이면 두 헤더 없음)
+     */
+    private static final class VerifiedIdentityRequest extends HttpServletRequestWrapper {
+
+        private final IdentityAssertion.Identity identity;
+
+        private VerifiedIdentityRequest(HttpServletRequest request, IdentityAssertion.Identity identity) {
+            super(request);
+            this.identity = identity;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (USER_ID_HEADER.equalsIgnoreCase(name)) {
+                return identity != null ? identity.memberId() : null;
+            }
+            if (USER_ROLE_HEADER.equalsIgnoreCase(name)) {
+                return identity != null ? identity.role() : null;
+            }
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (USER_ID_HEADER.equalsIgnoreCase(name) || USER_ROLE_HEADER.equalsIgnoreCase(name)) {
+                String value = getHeader(name);
+                return value != null ? Collections.enumeration(List.of(value)) : Collections.emptyEnumeration();
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !USER_ID_HEADER.equalsIgnoreCase(name) && !USER_ROLE_HEADER.equalsIgnoreCase(name))
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if (identity != null) {
+                names.add(USER_ID_HEADER);
+                if (identity.role() != null) {
+                    names.add(USER_ROLE_HEADER);
+                }
+            }
+            return Collections.enumeration(names);
+        }
+    }
+}
@@ -1,54 +1,103 @@
 package com.example.memberservice.service;
 
 import com.example.memberservice.entity.Member;
-import org.springframework.security.core.GrantedAuthority;
+import com.example.memberservice.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
 
+/**
+ * 회원 저장소(MemberRepository)에서 로그인 사용자 정보를 읽는 UserDetailsService
+ *
+ * - username이 이메일 형식이면 email 인덱스로, 아니면 memberId(기본키)로 조회
+ * - 비밀번호는 저장된 BCrypt 해시를 그대로 사용 (조회할 때마다 해시를 다시 만들지 않음)
+ * - 조회 결과는 member.user-details-cache.ttl 동안 메모리에 보관 (max-size 0이면 캐시 사용 안 함)
+ *   회원 정보가 바뀌면 evict로 바로 제거
+ * - 작업 계수가 바뀐 비밀번호 해시는 로그인 시 updatePassword로 교체 (PasswordHashingService)
+ *
+ * Spring Security는 인증 후 반환된 UserDetails의 비밀번호를 지우므로(eraseCredentials)
+ * 캐시에 있는 객체 대신 복사본을 반환합니다.
+ */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final MemberRepository memberRepository;
+    private final Cache<String, UserDetails> cache;
+
+    public CustomUserDetailsService(MemberRepository memberRepository,
+                                    @Value("${member.user-details-cache.max-size:100000}") long maxSize,
+                                    @Value("${member.user-details-cache.ttl:PT5M}") Duration ttl) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Member member = findMemberByUsername(username);
-        
-        if (member == null) {
+        UserDetails user = cache.get(username, this::load);
+        if (user == null) {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username);
         }
+        return User.withUserDetails(user).build();
+    }
 
-        List<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + member.getRole()));
-
+    private UserDetails load(String username) {
+        Member member = findMember(username);
+        if (member == null) {
+            return null; // 없는 사용자는 캐시하지 않음
+        }
         return new User(
             member.getMemberId(),
             member.getPassword(),
-            authorities
+            List.of(new SimpleGrantedAuthority("ROLE_" + member.getRole()))
         );
     }
 
-    private Member findMemberByUsername(String username) {
-        // 실제 프로덕션에서는 데이터베이스에서 회원 정보를 조회
-        // 여기서는 데모용으로 하드코딩된 사용자 정보 사용
-        if ("testuser".equals(username)) {
-            // 비밀번호를 BCrypt로 인코딩 (실제로는 DB에 저장될 때 인코딩됨)
-            String encodedPassword = passwordEncoder.encode("password123");
-            return new Member("testuser", encodedPassword, "USER", "테스트 사용자", "test@example.com");
+    private Member findMember(String username) {
+        if (username.indexOf('@') >= 0) {
+            return memberRepository.findByEmail(username).orElse(null);
         }
-        
-        return null; // 사용자 찾기 실패
+        return memberRepository.findById(username).orElse(null);
+    }
+
+    /**
+     * 새 해시로 저장하고 캐시에서 제거 (이 회원의 다음 조회는 DB에서 새 해시를 읽음)
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findById(user.getUsername()).orElse(null);
+        if (member == null) {
+            return user;
+        }
+        member.setPassword(newPassword);
+        memberRepository.save(member);
+        evict(member);
+        return User.withUserDetails(user).password(newPassword).build();
     }
 
     public Member getMemberById(String memberId) {
-        return findMemberByUsername(memberId);
+        return memberRepository.findById(memberId).orElse(null);
+    }
+
+    /**
+     * 회원 정보(비밀번호, 역할, 이메일)가 바뀌었을 때 캐시된 사용자 정보 제거
+     */
+    public void evict(Member member) {
+        cache.invalidate(member.getMemberId());
+        if (member.getEmail() != null) {
+            cache.invalidate(member.getEmail());
+        }
     }
-}
\ No newline at end of file
+}
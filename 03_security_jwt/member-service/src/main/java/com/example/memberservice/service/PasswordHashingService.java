@@ -0,0 +1,179 @@
+package com.example.memberservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 비밀번호 검증(BCrypt)을 전용 스레드 풀에서 실행
+ *
+ * BCrypt 검증 한 번은 수십 ms 동안 CPU를 사용합니다. Tomcat 요청 스레드에서 직접 실행하면
+ * 로그인이 몰릴 때 요청 스레드가 모두 검증에 묶여 board-service의 /members/{id} 호출까지 밀립니다.
+ * - 검증은 threads개 스레드에서만 실행하고, 대기열(queue-capacity)이 가득 차면 바로 거절 (PasswordHashingBusyException → 503)
+ * - 대기열에서 max-wait보다 오래 기다린 요청은 검증하지 않고 거절 (클라이언트가 이미 포기했을 가능성이 큼)
+ * - 로그인 API는 CompletableFuture를 반환하므로 검증을 기다리는 동안 요청 스레드를 점유하지 않음
+ * - 저장된 해시의 작업 계수(cost)가 bcrypt-strength와 다르면 로그인 성공 시 새 계수로 다시 해시해 저장 (rehash)
+ * - 없는 회원도 더미 해시로 한 번 검증해 응답 시간으로 회원 존재 여부를 알 수 없게 함
+ *
+ * 메트릭: member.password.hash.queue / active (대기 중/실행 중), member.password.hash.wait (대기 시간),
+ * member.password.hash.duration{operation=verify|encode} (해시 시간), member.password.hash.rejected{reason}
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService userDetailsService;
+    private final int strength;
+    private final long maxWaitNanos;
+    private final ThreadPoolExecutor executor;
+    private final String dummyHash;
+
+    private final Timer waitTimer;
+    private final Timer verifyTimer;
+    private final Timer encodeTimer;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedWaitTimeout;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  CustomUserDetailsService userDetailsService,
+                                  MeterRegistry registry,
+                                  @Value("${member.password-hashing.bcrypt-strength:10}") int strength,
+                                  @Value("${member.password-hashing.threads:0}") int threads,
+                                  @Value("${member.password-hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${member.password-hashing.max-wait:PT1S}") Duration maxWait) {
+        this.passwordEncoder = passwordEncoder;
+        this.userDetailsService = userDetailsService;
+        this.strength = strength;
+        this.maxWaitNanos = maxWait.toNanos();
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "password-hashing-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.dummyHash = passwordEncoder.encode("dummy-password-for-unknown-members");
+
+        Gauge.builder("member.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a thread")
+                .register(registry);
+        Gauge.builder("member.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks running")
+                .register(registry);
+        this.waitTimer = Timer.builder("member.password.hash.wait")
+                .description("Time a password hashing task waited in the queue")
+                .register(registry);
+        this.verifyTimer = Timer.builder("member.password.hash.duration")
+                .description("Time spent hashing passwords")
+                .tag("operation", "verify")
+                .register(registry);
+        this.encodeTimer = Timer.builder("member.password.hash.duration")
+                .description("Time spent hashing passwords")
+                .tag("operation", "encode")
+                .register(registry);
+        this.rejectedQueueFull = Counter.builder("member.password.hash.rejected")
+                .description("Password hashing tasks rejected because the executor was saturated")
+                .tag("reason", "queue-full")
+                .register(registry);
+        this.rejectedWaitTimeout = Counter.builder("member.password.hash.rejected")
+                .description("Password hashing tasks rejected because the executor was saturated")
+                .tag("reason", "wait-timeout")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * username(memberId 또는 이메일)과 비밀번호 확인
+     *
+     * @return 성공하면 사용자 정보, 회원이 없거나 비밀번호가 틀리면 null로 완료.
+     *         스레드 풀이 포화 상태면 PasswordHashingBusyException으로 실패
+     */
+    public CompletableFuture<UserDetails> authenticate(String username, String rawPassword) {
+        UserDetails user;
+        try {
+            user = userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            user = null;
+        }
+        UserDetails found = user;
+        long queuedAt = System.nanoTime();
+        CompletableFuture<UserDetails> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                long waited = System.nanoTime() - queuedAt;
+                waitTimer.record(waited, TimeUnit.NANOSECONDS);
+                if (waited > maxWaitNanos) {
+                    rejectedWaitTimeout.increment();
+                    result.completeExceptionally(new PasswordHashingBusyException());
+                    return;
+                }
+                try {
+                    result.complete(verify(found, rawPassword));
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            result.completeExceptionally(new PasswordHashingBusyException());
+        }
+        return result;
+    }
+
+    private UserDetails verify(UserDetails user, String rawPassword) {
+        String encoded = user != null ? user.getPassword() : dummyHash;
+        boolean matches = verifyTimer.record(() -> passwordEncoder.matches(rawPassword, encoded));
+        if (user == null || !matches) {
+            return null;
+        }
+        if (bcryptCost(encoded) != strength) {
+            String rehashed = encodeTimer.record(() -> passwordEncoder.encode(rawPassword));
+            return userDetailsService.updatePassword(user, rehashed);
+        }
+        return user;
+    }
+
+    /**
+     * BCrypt 해시($2a$10$...)에 기록된 작업 계수, 형식이 다르면 -1
+     */
+    static int bcryptCost(String encoded) {
+        if (encoded == null || encoded.length() < 7 || encoded.charAt(0) != '$' || encoded.charAt(3) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encoded, 4, 6, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 비밀번호 검증 스레드 풀이 포화 상태라 요청을 받지 못함 (잠시 후 재시도)
+     */
+    public static class PasswordHashingBusyException extends RuntimeException {
+
+        public PasswordHashingBusyException() {
+            super("Password hashing executor is saturated", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.memberservice.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용 가능한 Refresh Token ID(jti) 기록 - 한 번 쓰면 교체(rotation)
+ *
+ * 로그인할 때 새 세션(family)이 시작되고, /members/refresh로 토큰을 교환할 때마다
+ * 이전 토큰은 지우고 같은 family의 새 토큰을 기록합니다. family마다 사용 가능한 토큰은 하나뿐입니다.
+ * 이미 교환된 토큰이 다시 오면(탈취 후 재사용 의심) 그 family의 현재 토큰까지 폐기해 세션을 끊습니다.
+ *
+ * 만료는 해시 타이밍 휠(hashed timing wheel)로 처리합니다.
+ * - 시간을 tick 단위 칸(slot)으로 나누고, 토큰은 만료 tick % WHEEL_SIZE 칸의 연결 리스트에 들어감
+ * - tick마다 해당 칸만 확인하므로 전체 목록을 훑지 않음 (교환/폐기 시 리스트에서 바로 제거)
+ *
+ * 기록은 이 인스턴스의 메모리에만 있습니다. snapshot-file을 지정하면 주기적으로(그리고 종료 시) 파일에 저장하고
+ * 시작할 때 읽어, 재시작해도 로그인 세션이 유지됩니다.
+ * 게이트웨이는 로그인/갱신/로그아웃을 아무 인스턴스에나 보내므로 회원 서비스는 한 대로 운영해야 합니다
+ * (여러 대면 다른 인스턴스에서 시작된 세션은 갱신·폐기되지 않음, 여러 대가 필요하면 공유 저장소로 교체).
+ */
+@Service
+public class RefreshTokenStore {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenStore.class);
+
+    static final int WHEEL_SIZE = 512;
+
+    /** 토큰 교환 결과 */
+    public enum Rotation {
+        ROTATED,  // 사용 가능한 토큰 → 새 토큰 발급
+        REUSED,   // 이미 교환된 토큰 재사용 → family 전체 폐기
+        UNKNOWN   // 만료, 폐기되었거나 이 저장소가 모르는 토큰
+    }
+
+    private final Map<String, Entry> active = new HashMap<>();        // jti → 기록
+    private final Map<String, Entry> currentByFamily = new HashMap<>(); // family → 현재 사용 가능한 토큰
+    private final Entry[] wheel = new Entry[WHEEL_SIZE];
+    private final long tickMillis;
+    private final LongSupplier clock;
+    private final Path snapshotFile;
+    private final Duration snapshotInterval;
+    private long currentTick;
+    private long modifications;
+    private long savedModifications;
+    private ScheduledExecutorService ticker;
+
+    @Autowired
+    public RefreshTokenStore(@Value("${jwt.refresh-store.tick:PT1M}") Duration tick,
+                             @Value("${jwt.refresh-store.snapshot-file:}") String snapshotFile,
+                             @Value("${jwt.refresh-store.snapshot-interval:PT1M}") Duration snapshotInterval) {
+        this(tick, snapshotFile, snapshotInterval, System::currentTimeMillis);
+    }
+
+    RefreshTokenStore(Duration tick, String snapshotFile, Duration snapshotInterval, LongSupplier clock) {
+        this.tickMillis = tick.toMillis();
+        this.clock = clock;
+        this.snapshotFile = snapshotFile == null || snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+        this.snapshotInterval = snapshotInterval;
+        this.currentTick = clock.getAsLong() / tickMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        if (snapshotFile != null) {
+            load();
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "refresh-token-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        if (snapshotFile != null) {
+            long intervalMillis = snapshotInterval.toMillis();
+            ticker.scheduleWithFixedDelay(this::saveIfChanged, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        if (snapshotFile != null) {
+            saveIfChanged();
+        }
+    }
+
+    /**
+     * 새로 발급한 Refresh Token 기록 (같은 family의 이전 토큰은 더 이상 사용 불가)
+     */
+    public synchronized void register(String tokenId, String family, long expiresAtMillis) {
+        if (expiresAtMillis <= clock.getAsLong()) {
+            return;
+        }
+        Entry previous = currentByFamily.get(family);
+        if (previous != null) {
+            remove(previous);
+        }
+        Entry entry = new Entry(tokenId, family, expiresAtMillis);
+        active.put(tokenId, entry);
+        currentByFamily.put(family, entry);
+        schedule(entry);
+        modifications++;
+    }
+
+    /**
+     * 토큰 사용 (한 번만 성공). ROTATED면 호출한 쪽이 같은 family로 새 토큰을 register
+     */
+    public synchronized Rotation rotate(String tokenId, String family) {
+        Entry entry = active.get(tokenId);
+        if (entry != null && entry.family.equals(family) && entry.expiresAtMillis > clock.getAsLong()) {
+            remove(entry);
+            return Rotation.ROTATED;
+        }
+        Entry current = currentByFamily.get(family);
+        if (current != null) {
+            remove(current);  // 이미 교환된 토큰이 다시 옴 → 정상 사용자와 탈취자 모두의 세션 종료
+            return Rotation.REUSED;
+        }
+        return Rotation.UNKNOWN;
+    }
+
+    /**
+     * family(로그인 세션) 폐기
+     */
+    public synchronized void revokeFamily(String family) {
+        Entry current = currentByFamily.get(family);
+        if (current != null) {
+            remove(current);
+        }
+    }
+
+    public synchronized int size() {
+        return active.size();
+    }
+
+    /**
+     * 현재 시각까지 지난 tick의 칸을 확인해 만료된 토큰 제거
+     * (오래 멈춰 있었다면 한 바퀴만 돌면 모든 칸을 확인한 것)
+     */
+    synchronized void advance() {
+        long nowTick = clock.getAsLong() / tickMillis;
+        long last = Math.min(nowTick, currentTick + WHEEL_SIZE);
+        for (long tick = currentTick + 1; tick <= last; tick++) {
+            Entry entry = wheel[slot(tick)];
+            while (entry != null) {
+                Entry next = entry.next;
+                if (entry.deadlineTick <= nowTick) {
+                    remove(entry);
+                }
+                entry = next;
+            }
+        }
+        currentTick = nowTick;
+    }
+
+    private void schedule(Entry entry) {
+        long deadlineTick = Math.max((entry.expiresAtMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        entry.deadlineTick = deadlineTick;
+        int slot = slot(deadlineTick);
+        entry.next = wheel[slot];
+        if (entry.next != null) {
+            entry.next.prev = entry;
+        }
+        wheel[slot] = entry;
+    }
+
+    private void remove(Entry entry) {
+        active.remove(entry.tokenId, entry);
+        currentByFamily.remove(entry.family, entry);
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            wheel[slot(entry.deadlineTick)] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        modifications++;
+    }
+
+    private static int slot(long tick) {
+        return (int) (tick & (WHEEL_SIZE - 1));
+    }
+
+    /**
+     * 스냅샷: 한 줄에 "jti family 만료시각(ms)" (임시 파일에 쓴 뒤 교체)
+     */
+    void saveIfChanged() {
+        List<Entry> entries;
+        long version;
+        synchronized (this) {
+            if (modifications == savedModifications) {
+                return;
+            }
+            entries = List.copyOf(active.values());
+            version = modifications;
+        }
+        try {
+            Path parent = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, snapshotFile.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Entry entry : entries) {
+                    writer.write(entry.tokenId + " " + entry.family + " " + entry.expiresAtMillis);
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            synchronized (this) {
+                savedModifications = Math.max(savedModifications, version);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write refresh token snapshot to {}: {}", snapshotFile, e.toString());
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(snapshotFile)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(snapshotFile, StandardCharsets.UTF_8)) {
+                String[] fields = line.split(" ");
+                if (fields.length == 3) {
+                    register(fields[0], fields[1], Long.parseLong(fields[2]));
+                }
+            }
+            synchronized (this) {
+                savedModifications = modifications;
+            }
+            log.info("Refresh tokens restored from snapshot: {} active, file={}", size(), snapshotFile);
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Refresh token snapshot {} unreadable, starting empty: {}", snapshotFile, e.toString());
+        }
+    }
+
+    private static final class Entry {
+        final String tokenId;
+        final String family;
+        final long expiresAtMillis;
+        long deadlineTick;
+        Entry prev;
+        Entry next;
+
+        Entry(String tokenId, String family, long expiresAtMillis) {
+            this.tokenId = tokenId;
+            this.family = family;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.memberservice.service;
+
+import com.example.memberservice.dto.RevocationResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 폐기(로그아웃)된 토큰 ID(jti) 기록
+ *
+ * 폐기될 때마다 순번(sequence)을 붙여 저장하고, API Gateway는 주기적으로
+ * "마지막으로 받은 순번 이후" 목록만 가져가 자신의 메모리에 반영합니다.
+ * 토큰의 원래 만료 시각이 지나면 폐기 기록도 필요 없으므로 자동으로 정리합니다.
+ *
+ * epoch: 인스턴스가 재시작되면 순번이 다시 시작되므로, 게이트웨이가 이를 알아차리도록 붙이는 식별자
+ */
+@Service
+public class RevocationStore {
+
+    private final String epoch = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentSkipListMap<Long, RevocationResponse.RevokedToken> revocations = new ConcurrentSkipListMap<>();
+    private final Duration purgeInterval;
+    private final int maxBatchSize;
+    private ScheduledExecutorService purger;
+
+    public RevocationStore(@Value("${jwt.revocation.purge-interval:PT1M}") Duration purgeInterval,
+                           @Value("${jwt.revocation.max-batch-size:10000}") int maxBatchSize) {
+        this.purgeInterval = purgeInterval;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @PostConstruct
+    void start() {
+        purger = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "revocation-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = purgeInterval.toMillis();
+        purger.scheduleWithFixedDelay(() -> purgeExpired(System.currentTimeMillis()),
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (purger != null) {
+            purger.shutdownNow();
+        }
+    }
+
+    public synchronized void revoke(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return; // 이미 만료된 토큰은 기록할 필요 없음
+        }
+        long seq = sequence.incrementAndGet();
+        revocations.put(seq, new RevocationResponse.RevokedToken(tokenId, expiresAtMillis));
+    }
+
+    /**
+     * since 이후 순번의 폐기 기록 (최대 maxBatchSize 건, 남은 것은 다음 조회에서 이어서)
+     */
+    public RevocationResponse since(long since) {
+        ConcurrentNavigableMap<Long, RevocationResponse.RevokedToken> tail = revocations.tailMap(since, false);
+        List<RevocationResponse.RevokedToken> batch = new ArrayList<>();
+        long last = since;
+        for (Map.Entry<Long, RevocationResponse.RevokedToken> entry : tail.entrySet()) {
+            if (batch.size() >= maxBatchSize) {
+                break;
+            }
+            batch.add(entry.getValue());
+            last = entry.getKey();
+        }
+        return new RevocationResponse(epoch, last, batch);
+    }
+
+    void purgeExpired(long nowMillis) {
+        revocations.values().removeIf(token -> token.expiresAtMillis() <= nowMillis);
+    }
+
+    public int size() {
+        return revocations.size();
+    }
+}
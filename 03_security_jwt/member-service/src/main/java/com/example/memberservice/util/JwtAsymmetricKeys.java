@@ -0,0 +1,114 @@
+package com.example.memberservice.util;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PrivateJwk;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+
+/**
+ * 비대칭 키(ES256/EdDSA/RS256) 서명 모드 (jwt.mode=asymmetric)
+ *
+ * Member Service만 개인키를 가지고 토큰에 서명하고,
+ * API Gateway는 JWKS 엔드포인트(/.well-known/jwks.json)에서 공개키만 받아 검증합니다.
+ * 게이트웨이를 늘려도 비밀키를 배포할 필요가 없습니다.
+ *
+ * 여러 Member Service 인스턴스가 같은 키로 서명하도록 jwt.asymmetric.private-jwk-location에
+ * 개인키 JWK(JSON)를 지정합니다. 지정하지 않으면 시작하지 않습니다.
+ * (인스턴스마다 다른 키로 서명하면 게이트웨이가 다른 인스턴스의 토큰을 검증하지 못함)
+ * 단일 인스턴스 개발용으로만 jwt.asymmetric.ephemeral-key=true로 시작 시 임시 키를 생성할 수 있습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.mode", havingValue = "asymmetric")
+public class JwtAsymmetricKeys extends LocatorAdapter<Key> {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAsymmetricKeys.class);
+
+    private final JwtKeyRing.SigningKey signingKey;
+    private final Key verificationKey;
+    private final String jwksJson;
+
+    public JwtAsymmetricKeys(@Value("${jwt.asymmetric.algorithm:ES256}") String algorithm,
+                             @Value("${jwt.asymmetric.private-jwk-location:}") String privateJwkLocation,
+                             @Value("${jwt.asymmetric.ephemeral-key:false}") boolean ephemeralKey,
+                             ResourceLoader resourceLoader) throws IOException {
+        if (privateJwkLocation.isBlank() && !ephemeralKey) {
+            throw new IllegalStateException("jwt.mode=asymmetric requires jwt.asymmetric.private-jwk-location "
+                    + "shared by all member-service instances (set jwt.asymmetric.ephemeral-key=true only for a single dev instance)");
+        }
+        PrivateJwk<?, ?, ?> privateJwk = privateJwkLocation.isBlank()
+                ? generate(algorithm)
+                : load(resourceLoader.getResource(privateJwkLocation));
+        PublicJwk<?> publicJwk = privateJwk.toPublicJwk();
+
+        this.signingKey = new JwtKeyRing.SigningKey(privateJwk.getId(), privateJwk.toKeyPair().getPrivate());
+        this.verificationKey = publicJwk.toKey();
+        this.jwksJson = "{\"keys\":[" + Jwks.json(publicJwk) + "]}";
+        log.info("JWT asymmetric signing enabled: alg={}, kid={}", publicJwk.getAlgorithm(), publicJwk.getId());
+        if (privateJwkLocation.isBlank()) {
+            log.warn("JWT signing key is ephemeral (jwt.asymmetric.ephemeral-key=true): run a single member-service instance only");
+        }
+    }
+
+    public JwtKeyRing.SigningKey signingKey() {
+        return signingKey;
+    }
+
+    /**
+     * 공개키 목록(JWK Set) JSON, 시작 시 한 번 직렬화해 둔 값을 그대로 반환
+     */
+    public String jwksJson() {
+        return jwksJson;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        if (!signingKey.kid().equals(header.getKeyId())) {
+            throw new SignatureException("Unknown JWT key id: " + header.getKeyId());
+        }
+        return verificationKey;
+    }
+
+    private static PrivateJwk<?, ?, ?> generate(String algorithm) {
+        SignatureAlgorithm alg = switch (algorithm) {
+            case "ES256" -> Jwts.SIG.ES256;
+            case "EdDSA" -> Jwts.SIG.EdDSA;
+            case "RS256" -> Jwts.SIG.RS256;
+            default -> throw new IllegalArgumentException("Unsupported jwt.asymmetric.algorithm: " + algorithm);
+        };
+        KeyPair keyPair = alg.keyPair().build();
+        return Jwks.builder()
+                .keyPair(keyPair)
+                .algorithm(alg.getId())
+                .idFromThumbprint()
+                .build();
+    }
+
+    private static PrivateJwk<?, ?, ?> load(Resource resource) throws IOException {
+        String json = resource.getContentAsString(StandardCharsets.UTF_8);
+        Jwk<?> jwk = Jwks.parser().build().parse(json);
+        if (!(jwk instanceof PrivateJwk<?, ?, ?> privateJwk)) {
+            throw new IllegalStateException("jwt.asymmetric.private-jwk-location must contain a private JWK");
+        }
+        if (privateJwk.getId() == null) {
+            throw new IllegalStateException("Private JWK must have a 'kid'");
+        }
+        return privateJwk;
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.memberservice.util;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 서명 키 묶음(Key Ring)
+ *
+ * 키는 시작 시(또는 키 파일이 바뀌었을 때) 한 번만 만들어 두고,
+ * 토큰 헤더의 kid 값으로 검증 키를 선택합니다.
+ * 여러 키를 동시에 활성 상태로 둘 수 있으므로 재시작 없이 키를 교체(rotation)할 수 있습니다.
+ *
+ * 키 파일 형식 (jwt.key-set-location, properties):
+ *   active-kid=2025-10
+ *   keys.2025-10=새 비밀키
+ *   keys.2025-09=이전 비밀키 (기존 토큰 만료 전까지 유지)
+ *
+ * 키 파일이 없으면 jwt.secret 하나를 kid "default"로 사용합니다.
+ * (비대칭 키 모드에서는 jwt.secret을 비워 둘 수 있습니다.)
+ * kid가 없는 기존 토큰은 "default" 키(없으면 활성 키)로 검증합니다.
+ */
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    public static final String DEFAULT_KID = "default";
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private final String legacySecret;
+    private final String keySetLocation;
+    private final Duration refreshInterval;
+    private final ResourceLoader resourceLoader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile KeySet keySet;
+    private volatile long keySetLastModified = -1;
+    private ScheduledExecutorService reloader;
+
+    public JwtKeyRing(@Value("${jwt.secret:}") String legacySecret,
+                      @Value("${jwt.key-set-location:}") String keySetLocation,
+                      @Value("${jwt.key-set-refresh-interval:PT30S}") Duration refreshInterval,
+                      ResourceLoader resourceLoader,
+                      ApplicationEventPublisher eventPublisher) {
+        this.legacySecret = legacySecret;
+        this.keySetLocation = keySetLocation;
+        this.refreshInterval = refreshInterval;
+        this.resourceLoader = resourceLoader;
+        this.eventPublisher = eventPublisher;
+        this.keySet = KeySet.single(DEFAULT_KID, legacySecret);
+    }
+
+    @PostConstruct
+    void start() {
+        if (keySetLocation.isBlank()) {
+            return;
+        }
+        reload();
+        reloader = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "jwt-key-ring-reloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = refreshInterval.toMillis();
+        reloader.scheduleWithFixedDelay(this::reloadQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (reloader != null) {
+            reloader.shutdownNow();
+        }
+    }
+
+    /**
+     * 키 파일이 변경되었으면 다시 읽어 키 묶음을 원자적으로 교체
+     */
+    public synchronized void reload() {
+        Resource resource = resourceLoader.getResource(keySetLocation);
+        try {
+            long lastModified = resource.lastModified();
+            if (lastModified == keySetLastModified) {
+                return;
+            }
+            Properties properties = new Properties();
+            try (InputStream in = resource.getInputStream()) {
+                properties.load(in);
+            }
+            KeySet loaded = KeySet.from(properties, legacySecret);
+            KeySet previous = this.keySet;
+            this.keySet = loaded;
+            this.keySetLastModified = lastModified;
+            log.info("JWT key set loaded: kids={}, active={}", loaded.keys().keySet(), loaded.activeKid());
+            eventPublisher.publishEvent(new JwtKeySetReloadedEvent(this, previous.keys().keySet(), loaded.keys().keySet()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load JWT key set from " + keySetLocation, e);
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            // 잘못된 키 파일이 배포되어도 기존 키 묶음으로 계속 동작
+            log.warn("JWT key set reload failed, keeping previous keys: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새 토큰 서명에 사용할 활성 키 ID
+     */
+    public String activeKid() {
+        return keySet.activeKid();
+    }
+
+    /**
+     * 새 토큰 서명에 사용할 활성 키와 kid (교체 중에도 두 값이 어긋나지 않도록 함께 반환)
+     */
+    public SigningKey activeSigningKey() {
+        KeySet current = keySet;
+        if (current.activeKid() == null) {
+            throw new IllegalStateException("No active JWT signing key (jwt.secret is not configured)");
+        }
+        return new SigningKey(current.activeKid(), current.keys().get(current.activeKid()));
+    }
+
+    /**
+     * 토큰 헤더의 kid로 검증 키 선택 (JwtParser가 토큰마다 호출)
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        KeySet current = keySet;
+        String kid = header.getKeyId();
+        if (kid == null) {
+            SecretKey legacy = current.keys().get(DEFAULT_KID);
+            if (legacy == null && current.activeKid() == null) {
+                throw new SignatureException("No JWT verification key configured");
+            }
+            return legacy != null ? legacy : current.keys().get(current.activeKid());
+        }
+        SecretKey key = current.keys().get(kid);
+        if (key == null) {
+            throw new SignatureException("Unknown JWT key id: " + kid);
+        }
+        return key;
+    }
+
+    public record SigningKey(String kid, Key key) {
+    }
+
+    private record KeySet(Map<String, SecretKey> keys, String activeKid) {
+
+        static KeySet single(String kid, String secret) {
+            if (secret.isBlank()) {
+                return new KeySet(Map.of(), null);
+            }
+            return new KeySet(Map.of(kid, hmacKey(secret)), kid);
+        }
+
+        static KeySet from(Properties properties, String legacySecret) {
+            Map<String, SecretKey> keys = new LinkedHashMap<>();
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith("keys.")) {
+                    keys.put(name.substring("keys.".length()), hmacKey(properties.getProperty(name)));
+                }
+            }
+            if (keys.isEmpty()) {
+                return single(DEFAULT_KID, legacySecret);
+            }
+            String activeKid = properties.getProperty("active-kid");
+            if (activeKid == null || !keys.containsKey(activeKid)) {
+                throw new IllegalStateException("active-kid must reference one of " + keys.keySet());
+            }
+            return new KeySet(Collections.unmodifiableMap(keys), activeKid);
+        }
+
+        private static SecretKey hmacKey(String secret) {
+            return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.memberservice.util;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+
+/**
+ * JWT 키 묶음이 다시 로드되었을 때 발행되는 이벤트
+ * 제거된 kid가 있으면 해당 키로 검증된 캐시 결과를 버려야 합니다.
+ */
+public class JwtKeySetReloadedEvent extends ApplicationEvent {
+
+    private final Set<String> previousKids;
+    private final Set<String> currentKids;
+
+    public JwtKeySetReloadedEvent(Object source, Set<String> previousKids, Set<String> currentKids) {
+        super(source);
+        this.previousKids = Set.copyOf(previousKids);
+        this.currentKids = Set.copyOf(currentKids);
+    }
+
+    public Set<String> getPreviousKids() {
+        return previousKids;
+    }
+
+    public Set<String> getCurrentKids() {
+        return currentKids;
+    }
+
+    public boolean hasRemovedKeys() {
+        return !currentKids.containsAll(previousKids);
+    }
+}
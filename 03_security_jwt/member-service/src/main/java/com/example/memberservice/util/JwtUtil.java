@@ -1,59 +1,108 @@
 package com.example.memberservice.util;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
-
     @Value("${jwt.access-token-expiration}")
     private long accessTokenExpiration;
 
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    // 서명 키: HMAC 모드는 JwtKeyRing의 활성 키, 비대칭 모드는 JwtAsymmetricKeys의 개인키
+    private final Supplier<JwtKeyRing.SigningKey> signingKeys;
+
+    // 파서는 시작 시 한 번만 생성하고, 검증 키는 토큰의 kid로 선택
+    private final JwtParser parser;
+
+    public JwtUtil(JwtKeyRing keyRing) {
+        this(keyRing::activeSigningKey, keyRing);
+    }
+
+    @Autowired
+    public JwtUtil(JwtKeyRing keyRing, ObjectProvider<JwtAsymmetricKeys> asymmetricKeys) {
+        this(signingKeys(keyRing, asymmetricKeys.getIfAvailable()), keyLocator(keyRing, asymmetricKeys.getIfAvailable()));
+    }
+
+    private JwtUtil(Supplier<JwtKeyRing.SigningKey> signingKeys, Locator<Key> keyLocator) {
+        this.signingKeys = signingKeys;
+        this.parser = Jwts.parser()
+                .keyLocator(keyLocator)
+                .build();
+    }
+
+    private static Supplier<JwtKeyRing.SigningKey> signingKeys(JwtKeyRing keyRing, JwtAsymmetricKeys asymmetricKeys) {
+        return asymmetricKeys != null ? asymmetricKeys::signingKey : keyRing::activeSigningKey;
+    }
+
+    private static Locator<Key> keyLocator(JwtKeyRing keyRing, JwtAsymmetricKeys asymmetricKeys) {
+        return asymmetricKeys != null ? asymmetricKeys : keyRing;
     }
 
     // access token 생성
     public String generateAccessToken(String memberId, String role) {
+        return generateAccessToken(memberId, role, null);
+    }
+
+    // access token 생성 - family: 함께 발급된 refresh token의 세션 ID (로그아웃 시 refresh token도 폐기)
+    public String generateAccessToken(String memberId, String role, String family) {
+        JwtKeyRing.SigningKey signingKey = signingKeys.get();
         return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
+                .id(UUID.randomUUID().toString())  // jti: 로그아웃 시 이 토큰만 폐기하기 위한 ID
                 .setSubject(memberId)
                 .claim("role", role)
                 .claim("type", "access")
+                .claim("fam", family)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey.key())
                 .compact();
     }
 
     // refrech token 생성
     public String generateRefreshToken(String memberId) {
-        return Jwts.builder()
+        return issueRefreshToken(memberId, UUID.randomUUID().toString()).token();
+    }
+
+    /**
+     * refresh token 생성 - family: 로그인 한 번으로 시작되는 세션 ID (교체해도 유지, RefreshTokenStore 참고)
+     */
+    public RefreshToken issueRefreshToken(String memberId, String family) {
+        JwtKeyRing.SigningKey signingKey = signingKeys.get();
+        String tokenId = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        long expiresAtMillis = now + refreshTokenExpiration;
+        String token = Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
+                .id(tokenId)  // jti: 한 번 사용하면 폐기 (rotation)
                 .setSubject(memberId)
                 .claim("type", "refresh")
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
-                .signWith(getSigningKey())
+                .claim("fam", family)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(expiresAtMillis))
+                .signWith(signingKey.key())
                 .compact();
+        return new RefreshToken(token, tokenId, family, expiresAtMillis);
+    }
+
+    public record RefreshToken(String token, String tokenId, String family, long expiresAtMillis) {
     }
 
     // claim 변경
     public Claims parseClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     // 토큰 검증
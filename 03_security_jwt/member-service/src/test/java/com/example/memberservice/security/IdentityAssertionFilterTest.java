@@ -0,0 +1,75 @@
+package com.example.memberservice.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdentityAssertionFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Value("${identity-assertion.secret}")
+    private String secret;
+
+    @Test
+    void verifiesGatewayAssertionFormat() {
+        // api-gateway IdentityAssertionSignerTest가 만드는 값 (testuser / USER, 1700000030 만료)
+        IdentityAssertion assertion = new IdentityAssertion("internal-identity-secret-0123456789abcdef",
+                Duration.ofSeconds(5), () -> 1_700_000_010_000L);
+        IdentityAssertion.Identity identity =
+                assertion.verify("v1.dGVzdHVzZXI.VVNFUg.1700000030.MZ2TsrlBYiUU5OsafRMkpRJIQPg_sUUyRS0NicZEz8s");
+
+        assertEquals(new IdentityAssertion.Identity("testuser", "USER"), identity);
+    }
+
+    @Test
+    void signedIdentityIsUsedAndForgedHeaderIsIgnored() throws Exception {
+        mockMvc.perform(get("/members/1").header("X-USER-ASSERTION", sign("testuser", "USER")))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Member Service: 사용자 testuser가 회원 ID 1의 정보를 조회했습니다."));
+
+        mockMvc.perform(get("/members/1").header("X-USER-ID", "admin"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Member Service: 회원 ID 1의 정보를 조회했습니다."));
+
+        mockMvc.perform(get("/members/1").header("X-USER-ASSERTION", sign("testuser", "USER") + "x"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void revocationFeedRequiresGatewayAssertion() throws Exception {
+        mockMvc.perform(get("/members/revocations"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/members/revocations").header("X-USER-ASSERTION", sign("testuser", "USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/members/revocations").header("X-USER-ASSERTION", sign("api-gateway", "GATEWAY")))
+                .andExpect(status().isOk());
+    }
+
+    private String sign(String memberId, String role) throws Exception {
+        Base64.Encoder base64url = Base64.getUrlEncoder().withoutPadding();
+        String payload = "v1." + base64url.encodeToString(memberId.getBytes(StandardCharsets.UTF_8))
+                + "." + base64url.encodeToString(role.getBytes(StandardCharsets.UTF_8))
+                + "." + (System.currentTimeMillis() / 1000 + 30);
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return payload + "." + base64url.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
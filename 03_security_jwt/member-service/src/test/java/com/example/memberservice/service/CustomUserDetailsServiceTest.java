@@ -0,0 +1,74 @@
+package com.example.memberservice.service;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CustomUserDetailsServiceTest {
+
+    private static final Member MEMBER = new Member("testuser", "$2a$10$storedhash", "USER", "테스트 사용자", "test@example.com");
+
+    private final MemberRepository repository = mock(MemberRepository.class);
+
+    @Test
+    void loadsByMemberIdOrEmailAndCachesTheResult() {
+        when(repository.findById("testuser")).thenReturn(Optional.of(MEMBER));
+        when(repository.findByEmail("test@example.com")).thenReturn(Optional.of(MEMBER));
+        CustomUserDetailsService service = new CustomUserDetailsService(repository, 100, Duration.ofMinutes(5));
+
+        UserDetails byId = service.loadUserByUsername("testuser");
+        UserDetails byEmail = service.loadUserByUsername("test@example.com");
+        service.loadUserByUsername("testuser");
+
+        assertEquals("testuser", byId.getUsername());
+        assertEquals("$2a$10$storedhash", byId.getPassword());
+        assertEquals("ROLE_USER", byId.getAuthorities().iterator().next().getAuthority());
+        assertEquals("testuser", byEmail.getUsername());
+        verify(repository, times(1)).findById("testuser");
+        verify(repository, times(1)).findByEmail("test@example.com");
+    }
+
+    @Test
+    void erasingCredentialsOfReturnedUserDoesNotTouchTheCache() {
+        when(repository.findById("testuser")).thenReturn(Optional.of(MEMBER));
+        CustomUserDetailsService service = new CustomUserDetailsService(repository, 100, Duration.ofMinutes(5));
+
+        ((CredentialsContainer) service.loadUserByUsername("testuser")).eraseCredentials();
+
+        assertEquals("$2a$10$storedhash", service.loadUserByUsername("testuser").getPassword());
+    }
+
+    @Test
+    void unknownUserIsRejectedAndNotCached() {
+        when(repository.findById("nobody")).thenReturn(Optional.empty());
+        CustomUserDetailsService service = new CustomUserDetailsService(repository, 100, Duration.ofMinutes(5));
+
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("nobody"));
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("nobody"));
+        verify(repository, times(2)).findById("nobody");
+    }
+
+    @Test
+    void evictReloadsChangedMember() {
+        when(repository.findById("testuser")).thenReturn(Optional.of(MEMBER));
+        CustomUserDetailsService service = new CustomUserDetailsService(repository, 100, Duration.ofMinutes(5));
+        service.loadUserByUsername("testuser");
+
+        Member changed = new Member("testuser", "$2a$10$newhash", "ADMIN", "테스트 사용자", "test@example.com");
+        when(repository.findById("testuser")).thenReturn(Optional.of(changed));
+        service.evict(changed);
+
+        UserDetails reloaded = service.loadUserByUsername("testuser");
+        assertEquals("$2a$10$newhash", reloaded.getPassword());
+        assertEquals("ROLE_ADMIN", reloaded.getAuthorities().iterator().next().getAuthority());
+    }
+}
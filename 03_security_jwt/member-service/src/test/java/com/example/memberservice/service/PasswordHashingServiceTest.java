@@ -0,0 +1,135 @@
+package com.example.memberservice.service;
+
+import com.example.memberservice.entity.Member;
+import com.example.memberservice.repository.MemberRepository;
+import com.example.memberservice.service.PasswordHashingService.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PasswordHashingServiceTest {
+
+    private final MemberRepository repository = mock(MemberRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void verifiesPasswordAndRejectsWrongOrUnknown() throws Exception {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        givenMember("testuser", encoder.encode("password123"));
+        service = newService(encoder, 4, 1, 4, Duration.ofSeconds(5));
+
+        assertEquals("testuser", service.authenticate("testuser", "password123").get(5, TimeUnit.SECONDS).getUsername());
+        assertNull(service.authenticate("testuser", "wrong").get(5, TimeUnit.SECONDS));
+        assertNull(service.authenticate("nobody", "password123").get(5, TimeUnit.SECONDS));
+        assertEquals(3, registry.get("member.password.hash.duration").tag("operation", "verify").timer().count());
+    }
+
+    @Test
+    void rehashesWithNewWorkFactorOnSuccessfulLogin() throws Exception {
+        String oldHash = new BCryptPasswordEncoder(4).encode("password123");
+        Member member = givenMember("testuser", oldHash);
+        service = newService(new BCryptPasswordEncoder(5), 5, 1, 4, Duration.ofSeconds(5));
+
+        UserDetails user = service.authenticate("testuser", "password123").get(5, TimeUnit.SECONDS);
+
+        assertEquals(5, PasswordHashingService.bcryptCost(member.getPassword()));
+        assertEquals(member.getPassword(), user.getPassword());
+        verify(repository).save(member);
+    }
+
+    @Test
+    void failsFastWhenQueueIsFull() throws Exception {
+        givenMember("testuser", "$2a$04$storedhash");
+        service = newService(blockingEncoder(), 4, 1, 1, Duration.ofSeconds(5));
+
+        service.authenticate("testuser", "a");  // 실행 중
+        service.authenticate("testuser", "b");  // 대기열
+        CompletableFuture<UserDetails> rejected = service.authenticate("testuser", "c");
+
+        assertBusy(rejected);
+        assertEquals(1, registry.get("member.password.hash.rejected").tag("reason", "queue-full").counter().count());
+    }
+
+    @Test
+    void dropsTasksThatWaitedLongerThanMaxWait() throws Exception {
+        givenMember("testuser", "$2a$04$storedhash");
+        service = newService(blockingEncoder(), 4, 1, 4, Duration.ofMillis(10));
+
+        service.authenticate("testuser", "a");
+        CompletableFuture<UserDetails> queued = service.authenticate("testuser", "b");
+        Thread.sleep(50);
+        release.countDown();
+
+        assertBusy(queued);
+        assertEquals(1, registry.get("member.password.hash.rejected").tag("reason", "wait-timeout").counter().count());
+    }
+
+    @Test
+    void readsCostFromBcryptHash() {
+        assertEquals(10, PasswordHashingService.bcryptCost("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1/Q1vvjc6zxy7VxB6o0V3e6"));
+        assertEquals(-1, PasswordHashingService.bcryptCost("{noop}password"));
+        assertEquals(-1, PasswordHashingService.bcryptCost(null));
+    }
+
+    private Member givenMember(String memberId, String hash) {
+        Member member = new Member(memberId, hash, "USER", "테스트 사용자", memberId + "@example.com");
+        when(repository.findById(memberId)).thenReturn(Optional.of(member));
+        return member;
+    }
+
+    private PasswordHashingService newService(PasswordEncoder encoder, int strength, int threads,
+                                              int queueCapacity, Duration maxWait) {
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(repository, 100, Duration.ofMinutes(5));
+        return new PasswordHashingService(encoder, userDetailsService, registry, strength, threads, queueCapacity, maxWait);
+    }
+
+    /**
+     * release 전까지 검증 스레드를 붙잡아 두는 인코더 (스레드 풀 포화 상태 재현)
+     */
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return "$2a$04$dummy";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return false;
+            }
+        };
+    }
+
+    private static void assertBusy(CompletableFuture<UserDetails> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(PasswordHashingBusyException.class, e.getCause());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.memberservice.service;
+
+import com.example.memberservice.service.RefreshTokenStore.Rotation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshTokenStoreTest {
+
+    private static final Duration TICK = Duration.ofMinutes(1);
+    private static final long DAY = Duration.ofDays(1).toMillis();
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+
+    @Test
+    void tokenCanBeRotatedOnlyOnce() {
+        RefreshTokenStore store = new RefreshTokenStore(TICK, "", TICK, now::get);
+        store.register("t1", "fam", now.get() + DAY);
+
+        assertEquals(Rotation.ROTATED, store.rotate("t1", "fam"));
+        store.register("t2", "fam", now.get() + DAY);
+
+        assertEquals(Rotation.ROTATED, store.rotate("t2", "fam"));
+        assertEquals(Rotation.UNKNOWN, store.rotate("t2", "fam"));  // 교환 후 새 토큰을 아직 기록하지 않음
+    }
+
+    @Test
+    void reusingRotatedTokenRevokesTheFamily() {
+        RefreshTokenStore store = new RefreshTokenStore(TICK, "", TICK, now::get);
+        store.register("t1", "fam", now.get() + DAY);
+        store.rotate("t1", "fam");
+        store.register("t2", "fam", now.get() + DAY);
+
+        assertEquals(Rotation.REUSED, store.rotate("t1", "fam"));
+        assertEquals(Rotation.UNKNOWN, store.rotate("t2", "fam"));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void revokedFamilyCannotRefresh() {
+        RefreshTokenStore store = new RefreshTokenStore(TICK, "", TICK, now::get);
+        store.register("t1", "fam", now.get() + DAY);
+        store.register("other", "fam2", now.get() + DAY);
+
+        store.revokeFamily("fam");
+
+        assertEquals(Rotation.UNKNOWN, store.rotate("t1", "fam"));
+        assertEquals(Rotation.ROTATED, store.rotate("other", "fam2"));
+    }
+
+    @Test
+    void wheelExpiresTokensAfterTheirDeadline() {
+        RefreshTokenStore store = new RefreshTokenStore(TICK, "", TICK, now::get);
+        store.register("short", "a", now.get() + Duration.ofMinutes(5).toMillis());
+        store.register("long", "b", now.get() + 7 * DAY);  // 휠 한 바퀴(512분)보다 긺
+
+        now.addAndGet(Duration.ofMinutes(6).toMillis());
+        store.advance();
+        assertEquals(1, store.size());
+
+        for (int minute = 0; minute < 7 * 24 * 60; minute += 30) {
+            now.addAndGet(Duration.ofMinutes(30).toMillis());
+            store.advance();
+        }
+        assertEquals(0, store.size());
+        assertEquals(Rotation.UNKNOWN, store.rotate("long", "b"));
+    }
+
+    @Test
+    void expiredButNotYetSweptTokenIsRejected() {
+        RefreshTokenStore store = new RefreshTokenStore(TICK, "", TICK, now::get);
+        store.register("t1", "fam", now.get() + 1000);
+
+        now.addAndGet(2000);
+
+        assertNotEquals(Rotation.ROTATED, store.rotate("t1", "fam"));
+    }
+
+    @Test
+    void snapshotRestoresActiveTokens(@TempDir Path dir) {
+        String file = dir.resolve("refresh.snapshot").toString();
+        RefreshTokenStore store = new RefreshTokenStore(TICK, file, TICK, now::get);
+        store.register("t1", "fam", now.get() + DAY);
+        store.register("t2", "fam2", now.get() + 1000);
+        store.saveIfChanged();
+
+        now.addAndGet(2000);
+        RefreshTokenStore restarted = new RefreshTokenStore(TICK, file, TICK, now::get);
+        restarted.start();
+        try {
+            assertEquals(1, restarted.size());
+            assertEquals(Rotation.ROTATED, restarted.rotate("t1", "fam"));
+        } finally {
+            restarted.stop();
+        }
+    }
+}
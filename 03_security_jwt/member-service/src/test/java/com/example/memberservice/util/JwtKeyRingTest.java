@@ -0,0 +1,73 @@
+package com.example.memberservice.util;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyRingTest {
+
+    private static final String OLD_SECRET = "oldSecretKey12345678901234567890123456789";
+    private static final String NEW_SECRET = "newSecretKey12345678901234567890123456789";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void tokensSignedWithPreviousKeyStayValidAfterRotation() throws IOException {
+        Path keyFile = tempDir.resolve("jwt-keys.properties");
+        Files.writeString(keyFile, "active-kid=k1\nkeys.k1=" + OLD_SECRET + "\n");
+        JwtKeyRing keyRing = keyRing(keyFile);
+        JwtUtil jwtUtil = jwtUtil(keyRing);
+
+        String oldToken = jwtUtil.generateAccessToken("testuser", "USER");
+
+        Files.writeString(keyFile, "active-kid=k2\nkeys.k1=" + OLD_SECRET + "\nkeys.k2=" + NEW_SECRET + "\n");
+        keyFile.toFile().setLastModified(keyFile.toFile().lastModified() + 1000);
+        keyRing.reload();
+        String newToken = jwtUtil.generateAccessToken("testuser", "USER");
+
+        assertEquals("k2", keyRing.activeKid());
+        assertEquals("testuser", jwtUtil.getMemberIdFromToken(oldToken));
+        assertEquals("testuser", jwtUtil.getMemberIdFromToken(newToken));
+    }
+
+    @Test
+    void tokensSignedWithRemovedKeyAreRejected() throws IOException {
+        Path keyFile = tempDir.resolve("jwt-keys.properties");
+        Files.writeString(keyFile, "active-kid=k1\nkeys.k1=" + OLD_SECRET + "\n");
+        JwtKeyRing keyRing = keyRing(keyFile);
+        JwtUtil jwtUtil = jwtUtil(keyRing);
+
+        String oldToken = jwtUtil.generateAccessToken("testuser", "USER");
+
+        Files.writeString(keyFile, "active-kid=k2\nkeys.k2=" + NEW_SECRET + "\n");
+        keyFile.toFile().setLastModified(keyFile.toFile().lastModified() + 1000);
+        keyRing.reload();
+
+        assertFalse(jwtUtil.validateToken(oldToken));
+        assertThrows(JwtException.class, () -> jwtUtil.parseClaims(oldToken));
+    }
+
+    private JwtKeyRing keyRing(Path keyFile) {
+        JwtKeyRing keyRing = new JwtKeyRing(OLD_SECRET, keyFile.toUri().toString(), Duration.ofSeconds(30),
+                new DefaultResourceLoader(), event -> { });
+        keyRing.reload();
+        return keyRing;
+    }
+
+    private JwtUtil jwtUtil(JwtKeyRing keyRing) {
+        JwtUtil jwtUtil = new JwtUtil(keyRing);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 3600000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 604800000L);
+        return jwtUtil;
+    }
+}